@@ -0,0 +1,103 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.dto.ApplicationCursor;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.entity.User;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthenticatedUser;
+import com.jobtracker.service.AccountDeletionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deleting an account with 100,000 applications. {@code entityCascade} is what removing the
+ * user through JPA did while {@code User.applications} cascaded: every application loaded and
+ * deleted one by one in a single transaction, here loaded a keyset page at a time.
+ * {@code chunkedPurge} records the deletion and runs the background purge to completion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class AccountDeletionBenchmark {
+
+    private static final int APPLICATIONS = 100_000;
+    private static final int PAGE_SIZE = 1_000;
+
+    @Param({"entityCascade", "chunkedPurge"})
+    public String strategy;
+
+    private BenchmarkContext context;
+    private TransactionTemplate tx;
+    private AuthenticatedUser owner;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The scheduled purge must not race the measured one.
+        context = BenchmarkContext.start("accounts-" + strategy, "--jobtracker.accounts.purge-interval=PT24H");
+        tx = new TransactionTemplate(context.bean(PlatformTransactionManager.class));
+    }
+
+    @Setup(Level.Iteration)
+    public void seedAccount() {
+        owner = context.createUser("delete-" + iteration++ + "@example.com");
+        context.seedApplications(owner, APPLICATIONS);
+        context.signIn(owner);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void deleteAccount() {
+        if (strategy.equals("entityCascade")) {
+            UserRepository users = context.bean(UserRepository.class);
+            JobApplicationRepository applications = context.bean(JobApplicationRepository.class);
+            tx.executeWithoutResult(status -> {
+                User user = users.findById(owner.id()).orElseThrow();
+                ApplicationCursor after = null;
+                List<ApplicationResponse> page;
+                do {
+                    page = applications.findPage(owner.id(), ApplicationFilter.none(), after, PAGE_SIZE,
+                            Set.of(ApplicationField.ID));
+                    List<Long> ids = page.stream().map(ApplicationResponse::id).toList();
+                    applications.deleteAll(applications.findAllByIdInAndUserId(ids, owner.id()));
+                    if (!page.isEmpty()) {
+                        ApplicationResponse last = page.getLast();
+                        after = new ApplicationCursor(last.dateApplied(), last.id());
+                    }
+                } while (page.size() == PAGE_SIZE);
+                users.delete(user);
+            });
+        } else {
+            AccountDeletionService service = context.bean(AccountDeletionService.class);
+            service.requestDeletion();
+            service.purgePending();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.service.JobApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List retrieval for users with 10, 1k and 50k applications: the first page should cost
+ * the same at every size, while walking every page shows the per-row cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationListBenchmark {
+
+    private static final Set<ApplicationField> SUMMARY_FIELDS = ApplicationField.parse("id,companyName,status");
+
+    @Param({"10", "1000", "50000"})
+    public int rows;
+
+    private BenchmarkContext context;
+    private JobApplicationService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("list" + rows);
+        context.seedApplications(rows);
+        service = context.bean(JobApplicationService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void signIn(ApplicationListBenchmark benchmark) {
+            benchmark.context.signIn();
+        }
+    }
+
+    @Benchmark
+    public ApplicationPage firstPage(Caller caller) {
+        return service.getPageForCurrentUser(ApplicationFilter.none(), null, JobApplicationService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ApplicationPage firstPageSummaryFields(Caller caller) {
+        return service.getPageForCurrentUser(ApplicationFilter.none(), null, JobApplicationService.DEFAULT_PAGE_SIZE,
+                SUMMARY_FIELDS);
+    }
+
+    @Benchmark
+    public ApplicationPage firstPageFilteredByStatus(Caller caller) {
+        return service.getPageForCurrentUser(new ApplicationFilter(ApplicationStatus.Interview, null, null, null),
+                null, JobApplicationService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int allPages(Caller caller) {
+        int total = 0;
+        String cursor = null;
+        do {
+            ApplicationPage page = service.getPageForCurrentUser(ApplicationFilter.none(), cursor,
+                    JobApplicationService.MAX_PAGE_SIZE);
+            total += page.items().size();
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return total;
+    }
+}
@@ -0,0 +1,95 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.service.JobApplicationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-item CRUD through {@link JobApplicationService}, including the transaction and
+ * the owner-scoped statements, against a user with 1,000 existing applications.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationServiceBenchmark {
+
+    private BenchmarkContext context;
+    private JobApplicationService service;
+    private Long existingId;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("service");
+        context.seedApplications(1_000);
+        context.signIn();
+        service = context.bean(JobApplicationService.class);
+        existingId = service.create(application("Existing")).id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** Benchmark threads need the seeded user in their own security context. */
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void signIn(ApplicationServiceBenchmark benchmark) {
+            benchmark.context.signIn();
+        }
+    }
+
+    @Benchmark
+    public Object create(Caller caller) {
+        return service.create(application("Created " + counter++));
+    }
+
+    @Benchmark
+    public Object getById(Caller caller) {
+        return service.getById(existingId);
+    }
+
+    /** A full replacement, as PUT sends it: the controller validates a complete body. */
+    @Benchmark
+    public Object update(Caller caller) {
+        JobApplication changes = application("Existing");
+        changes.setStatus((counter++ & 1) == 0 ? ApplicationStatus.Interview : ApplicationStatus.Applied);
+        return service.update(existingId, changes);
+    }
+
+    @Benchmark
+    public void createAndDelete(Caller caller) {
+        Long id = service.create(application("Transient")).id();
+        service.delete(id);
+    }
+
+    private static JobApplication application(String companyName) {
+        JobApplication application = new JobApplication();
+        application.setCompanyName(companyName);
+        application.setJobTitle("Engineer");
+        application.setStatus(ApplicationStatus.Applied);
+        application.setDateApplied(LocalDate.now());
+        application.setNotes("Created by benchmark");
+        return application;
+    }
+}
@@ -0,0 +1,127 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.JobTrackerApplication;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.User;
+import com.jobtracker.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application on a random port against a private in-memory H2 database
+ * and seeds a single user, as the service and repository benchmarks need.
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private static final int SEED_CHUNK = 1_000;
+
+    private final ConfigurableApplicationContext context;
+    private final AuthenticatedUser user;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, AuthenticatedUser user) {
+        this.context = context;
+        this.user = user;
+    }
+
+    static final String EMAIL = "bench@example.com";
+
+    /** Starts the app; {@code arguments} are extra {@code --name=value} settings. */
+    static BenchmarkContext start(String databaseName, String... arguments) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(List.of(arguments));
+        // Command-line arguments, so they win over application.properties.
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobTrackerApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new));
+
+        return new BenchmarkContext(context, createUser(context, EMAIL));
+    }
+
+    private static AuthenticatedUser createUser(ConfigurableApplicationContext context, String email) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        User user = tx.execute(status -> {
+            User created = new User();
+            created.setEmail(email);
+            created.setUserName("Bench");
+            created.setPasswordHash("not-used");
+            entityManager.persist(created);
+            return created;
+        });
+        return AuthenticatedUser.from(user);
+    }
+
+    /** Adds another user, for benchmarks that consume theirs. */
+    AuthenticatedUser createUser(String email) {
+        return createUser(context, email);
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /** Makes the seeded user the current user of the calling thread. */
+    void signIn() {
+        signIn(user);
+    }
+
+    void signIn(AuthenticatedUser user) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    /** Inserts {@code count} applications for the seeded user, spread over recent dates. */
+    void seedApplications(int count) {
+        seedApplications(user, count);
+    }
+
+    void seedApplications(AuthenticatedUser user, int count) {
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        LocalDate today = LocalDate.now();
+
+        for (int offset = 0; offset < count; offset += SEED_CHUNK) {
+            int from = offset;
+            int to = Math.min(count, offset + SEED_CHUNK);
+            tx.executeWithoutResult(status -> {
+                User owner = entityManager.getReference(User.class, user.id());
+                for (int i = from; i < to; i++) {
+                    JobApplication application = new JobApplication();
+                    application.setUser(owner);
+                    application.setCompanyName("Company " + (i % 500));
+                    application.setJobTitle("Engineer " + i);
+                    application.setStatus(statuses[i % statuses.length]);
+                    application.setDateApplied(today.minusDays(i % 720));
+                    application.setNotes("Notes for application " + i);
+                    entityManager.persist(application);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+}
@@ -0,0 +1,104 @@
+package com.jobtracker.benchmark;
+
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.entity.User;
+import com.jobtracker.service.JobApplicationService;
+import com.jobtracker.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The user lookup behind login (and legacy sessions) and the first list page, with the
+ * second-level cache on and off. Besides the time per call, the {@code calls} and
+ * {@code statements} counters give the database round trips per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecondLevelCacheBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private BenchmarkContext context;
+    private UserService userService;
+    private JobApplicationService applicationService;
+    private Statistics statistics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("cache" + cache,
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cache,
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=" + cache);
+        context.seedApplications(1_000);
+        userService = context.bean(UserService.class);
+        applicationService = context.bean(JobApplicationService.class);
+        statistics = context.bean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+        @Setup(Level.Trial)
+        public void signIn(SecondLevelCacheBenchmark benchmark) {
+            benchmark.context.signIn();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+        public long calls;
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            statements = 0;
+        }
+    }
+
+    @Benchmark
+    public User loginLookup(RoundTrips roundTrips) {
+        long before = statistics.getPrepareStatementCount();
+        User user = userService.findByEmail(BenchmarkContext.EMAIL);
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+        roundTrips.calls++;
+        return user;
+    }
+
+    @Benchmark
+    public ApplicationPage firstPage(Caller caller, RoundTrips roundTrips) {
+        long before = statistics.getPrepareStatementCount();
+        ApplicationPage page = applicationService.getPageForCurrentUser(ApplicationFilter.none(), null,
+                JobApplicationService.DEFAULT_PAGE_SIZE);
+        roundTrips.statements += statistics.getPrepareStatementCount() - before;
+        roundTrips.calls++;
+        return page;
+    }
+}
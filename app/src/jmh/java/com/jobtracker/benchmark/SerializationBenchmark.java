@@ -0,0 +1,81 @@
+package com.jobtracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jobtracker.config.JacksonConfig;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.entity.ApplicationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of application pages with the application's mapper settings,
+ * for the full representation and the {@code fields=id,companyName,status} summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    public int size;
+
+    private ApplicationPage page;
+    private ObjectWriter fullWriter;
+    private ObjectWriter summaryWriter;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().serializeAllByDefault().customize(builder);
+        ObjectMapper objectMapper = builder.build();
+
+        fullWriter = objectMapper.writer();
+        summaryWriter = objectMapper.writer(new SimpleFilterProvider().addFilter(ApplicationResponse.FIELDS_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(
+                        ApplicationField.properties(ApplicationField.parse("id,companyName,status")))));
+
+        List<ApplicationResponse> items = new ArrayList<>(size);
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        for (int i = 0; i < size; i++) {
+            items.add(new ApplicationResponse((long) i, "Company " + i, "Senior Software Engineer",
+                    statuses[i % statuses.length], LocalDate.of(2024, 1, 1).plusDays(i % 365),
+                    "x".repeat(500), 3L));
+        }
+        page = new ApplicationPage(items, "MjAyNC0wMS0wMXwxMjM0");
+    }
+
+    @Benchmark
+    public byte[] fullPage() throws Exception {
+        return fullWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws Exception {
+        return summaryWriter.writeValueAsBytes(page);
+    }
+}
@@ -2,7 +2,11 @@ package com.jobtracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@ConfigurationPropertiesScan
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = "com.jobtracker")
 public class JobTrackerApplication {
 
@@ -0,0 +1,14 @@
+package com.jobtracker.audit;
+
+public enum AuditAction {
+    APPLICATION_CREATED,
+    APPLICATION_UPDATED,
+    APPLICATION_DELETED,
+    /**
+     * One committed chunk of an import or a bulk status change; the detail says how many
+     * applications, which id range, and for a status change the filter and target status.
+     */
+    APPLICATIONS_CHANGED,
+    LOGIN_SUCCEEDED,
+    LOGIN_FAILED
+}
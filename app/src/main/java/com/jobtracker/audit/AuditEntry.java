@@ -0,0 +1,13 @@
+package com.jobtracker.audit;
+
+import java.time.Instant;
+
+/**
+ * One audited action, as buffered until the writer persists it.
+ *
+ * @param userId   the acting user, null for a failed login
+ * @param targetId the application acted on, if any
+ * @param detail   free text, such as the email a failed login was attempted with
+ */
+public record AuditEntry(Instant occurredAt, Long userId, AuditAction action, Long targetId, String detail) {
+}
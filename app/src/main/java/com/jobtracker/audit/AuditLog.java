@@ -0,0 +1,258 @@
+package com.jobtracker.audit;
+
+import com.jobtracker.config.AuditProperties;
+import com.jobtracker.events.ApplicationChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind audit trail in the append-only {@code audit_event} table.
+ *
+ * <p>Recording an event only puts it in a bounded lock-free ring buffer, so requests never wait
+ * for an INSERT. A single writer thread drains the buffer and persists the events in JDBC batch
+ * inserts of up to {@code batchSize}, one short transaction per batch. When the buffer is full
+ * the {@link AuditProperties.Backpressure} policy decides whether the request waits or the event
+ * is dropped; every dropped event is counted. Batches the database could not take are retried.
+ *
+ * <p>Events are written after the request has answered: a process that is killed rather than shut
+ * down loses what is still buffered. A normal shutdown writes the buffer out first.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    static final String INSERT = """
+            insert into audit_event (occurred_at, user_id, action, target_id, detail)
+            values (?, ?, ?, ?, ?)
+            """;
+    private static final int DETAIL_LENGTH = 255;
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final AuditProperties properties;
+    private final AuditRingBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int sampleThreshold;
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedSampled;
+    private final Counter droppedFailed;
+    private final Thread writer;
+    private volatile boolean stopping;
+    /** When the oldest event of the batch being written occurred; null between batches. */
+    private volatile Instant writingSince;
+
+    public AuditLog(AuditProperties properties, DataSource dataSource, PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new AuditRingBuffer(properties.capacity());
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sampleThreshold = (int) (buffer.capacity() * properties.sampleThreshold());
+
+        this.written = Counter.builder("jobtracker.audit.written")
+                .description("Audit events persisted")
+                .register(meterRegistry);
+        this.droppedFull = dropped(meterRegistry, "full");
+        this.droppedSampled = dropped(meterRegistry, "sampled");
+        this.droppedFailed = dropped(meterRegistry, "failed");
+        Gauge.builder("jobtracker.audit.pending", buffer, AuditRingBuffer::size)
+                .description("Audit events waiting for the writer")
+                .register(meterRegistry);
+        Gauge.builder("jobtracker.audit.lag", this, AuditLog::lagSeconds)
+                .description("Age of the oldest audit event not yet persisted")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.writer = Thread.ofPlatform().name("audit-writer").daemon().unstarted(this::run);
+    }
+
+    /** Starts the writer once the bean is fully constructed, so it never sees a partial object. */
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jobtracker.audit.dropped")
+                .description("Audit events never persisted")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /** Buffers an event for the writer; waits only under {@code BLOCK} with the buffer full. */
+    public void record(AuditAction action, Long userId, Long targetId, String detail) {
+        AuditEntry entry = new AuditEntry(Instant.now(), userId, action, targetId, truncate(detail));
+        switch (properties.backpressure()) {
+            case BLOCK -> offerBlocking(entry);
+            case DROP -> offer(entry);
+            case SAMPLE -> {
+                if (buffer.size() >= sampleThreshold
+                        && ThreadLocalRandom.current().nextInt(properties.sampleRate()) != 0) {
+                    droppedSampled.increment();
+                } else {
+                    offer(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Audits committed changes made through {@code /api/applications}, on the request thread,
+     * after the transaction has committed. Imports and bulk status changes are not audited
+     * here: their {@code RESYNC} event says nothing about what changed, so those services
+     * record an {@link AuditAction#APPLICATIONS_CHANGED} entry per committed chunk themselves.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void applicationChanged(ApplicationChangeEvent event) {
+        AuditAction action = switch (event.type()) {
+            case CREATED -> AuditAction.APPLICATION_CREATED;
+            case UPDATED -> AuditAction.APPLICATION_UPDATED;
+            case DELETED -> AuditAction.APPLICATION_DELETED;
+            case RESYNC -> null;
+        };
+        if (action != null) {
+            record(action, event.userId(), event.applicationId(), null);
+        }
+    }
+
+    private void offer(AuditEntry entry) {
+        if (!buffer.offer(entry)) {
+            droppedFull.increment();
+        }
+    }
+
+    private void offerBlocking(AuditEntry entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        long deadline = System.nanoTime() + properties.blockTimeout().toNanos();
+        LockSupport.unpark(writer);
+        while (writer.isAlive() && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(entry)) {
+                return;
+            }
+        }
+        droppedFull.increment();
+    }
+
+    private void run() {
+        List<AuditEntry> batch = new ArrayList<>(properties.batchSize());
+        long pollNanos = properties.pollInterval().toNanos();
+        while (true) {
+            AuditEntry entry;
+            while (batch.size() < properties.batchSize() && (entry = buffer.poll()) != null) {
+                batch.add(entry);
+            }
+            if (!batch.isEmpty()) {
+                writingSince = batch.getFirst().occurredAt();
+                write(batch);
+                writingSince = null;
+                batch.clear();
+            } else if (stopping) {
+                // A producer may have claimed a slot it has not filled yet.
+                if (buffer.size() == 0) {
+                    return;
+                }
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(pollNanos);
+            }
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), AuditLog::bind));
+                written.increment(batch.size());
+                return;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                if (stopping) {
+                    fail(batch, e);
+                    return;
+                }
+                // Requests keep buffering meanwhile; the backpressure policy applies once it is full.
+                log.warn("Audit batch of {} events failed, retrying in {}", batch.size(), properties.retryBackoff(), e);
+                LockSupport.parkNanos(properties.retryBackoff().toNanos());
+            } catch (RuntimeException e) {
+                fail(batch, e);
+                return;
+            }
+        }
+    }
+
+    private void fail(List<AuditEntry> batch, RuntimeException e) {
+        droppedFailed.increment(batch.size());
+        log.error("Dropped audit batch of {} events", batch.size(), e);
+    }
+
+    private static void bind(PreparedStatement statement, AuditEntry entry) throws SQLException {
+        statement.setObject(1, entry.occurredAt().atOffset(ZoneOffset.UTC));
+        statement.setObject(2, entry.userId(), Types.BIGINT);
+        statement.setString(3, entry.action().name());
+        statement.setObject(4, entry.targetId(), Types.BIGINT);
+        statement.setString(5, entry.detail());
+    }
+
+    private static String truncate(String detail) {
+        return detail == null || detail.length() <= DETAIL_LENGTH ? detail : detail.substring(0, DETAIL_LENGTH);
+    }
+
+    private double lagSeconds() {
+        Instant oldest = writingSince;
+        if (oldest == null) {
+            AuditEntry next = buffer.peek();
+            if (next == null) {
+                return 0;
+            }
+            oldest = next.occurredAt();
+        }
+        return Duration.between(oldest, Instant.now()).toNanos() / 1e9;
+    }
+
+    /** Writes out what is buffered before the data source closes. */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopping = true;
+        if (writer.getState() == Thread.State.NEW) {
+            return;
+        }
+        LockSupport.unpark(writer);
+        if (!writer.join(properties.shutdownTimeout())) {
+            log.warn("Audit writer did not finish within {}; {} events not written",
+                    properties.shutdownTimeout(), buffer.size());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobtracker.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with one CAS on
+ * the tail and publish it by advancing the slot's sequence number; the consumer reads slots in
+ * order and hands them back for the next lap the same way. Neither side ever takes a lock, and
+ * a full buffer is reported to the producer instead of waited on.
+ */
+final class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<AuditEntry> entries;
+    /** Per slot: its position when free for that lap, position + 1 once written. */
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + requestedCapacity);
+        }
+        int size = 1;
+        while (size < requestedCapacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = capacity - 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /** Returns false, without waiting, when the buffer is full. Safe from any thread. */
+    boolean offer(AuditEntry entry) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries.set(index, entry);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The slot still holds the entry from the previous lap: full.
+                return false;
+            } else {
+                // Another producer took this position; try the current tail.
+                position = tail.get();
+            }
+        }
+    }
+
+    /** Takes the oldest entry, or null when there is none. Only the single consumer may call it. */
+    AuditEntry poll() {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            // Empty, or the producer holding this slot has not published it yet.
+            return null;
+        }
+        AuditEntry entry = entries.get(index);
+        entries.set(index, null);
+        sequences.set(index, position + capacity);
+        head.set(position + 1);
+        return entry;
+    }
+
+    /** The oldest entry without taking it; from other threads it may already be gone. */
+    AuditEntry peek() {
+        long position = head.get();
+        int index = (int) position & mask;
+        return sequences.get(index) == position + 1 ? entries.get(index) : null;
+    }
+
+    /** Entries claimed and not yet taken; approximate while producers are active. */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
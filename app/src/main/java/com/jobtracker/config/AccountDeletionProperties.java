@@ -0,0 +1,20 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for deleting accounts.
+ *
+ * @param chunkSize  applications removed per statement and transaction while purging
+ * @param retention  how long a deleted account stays on record after the request. Its
+ *                   sessions and tokens are rejected for that long, so it must exceed both
+ *                   the session timeout and the token ttl
+ */
+@ConfigurationProperties(prefix = "jobtracker.accounts")
+public record AccountDeletionProperties(
+        @DefaultValue("5000") int chunkSize,
+        @DefaultValue("1d") Duration retention) {
+}
@@ -0,0 +1,43 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the write-behind audit log.
+ *
+ * @param capacity         events buffered between the request threads and the writer, rounded
+ *                         up to a power of two
+ * @param batchSize        events per JDBC batch insert
+ * @param backpressure     what a request does when the buffer is full, see {@link Backpressure}
+ * @param blockTimeout     longest a request waits for space under {@code BLOCK} before the event
+ *                         is dropped after all
+ * @param sampleThreshold  buffer fill, from 0 to 1, above which {@code SAMPLE} starts thinning
+ * @param sampleRate       under {@code SAMPLE}, one in this many events is kept above the threshold
+ * @param pollInterval     how long the idle writer sleeps before looking at the buffer again
+ * @param retryBackoff     wait before retrying a batch the database could not take
+ * @param shutdownTimeout  how long shutdown waits for the buffer to be written out
+ */
+@ConfigurationProperties(prefix = "jobtracker.audit")
+public record AuditProperties(
+        @DefaultValue("8192") int capacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("block") Backpressure backpressure,
+        @DefaultValue("100ms") Duration blockTimeout,
+        @DefaultValue("0.5") double sampleThreshold,
+        @DefaultValue("10") int sampleRate,
+        @DefaultValue("50ms") Duration pollInterval,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("10s") Duration shutdownTimeout) {
+
+    public enum Backpressure {
+        /** Wait for the writer to make room, up to {@code blockTimeout}. */
+        BLOCK,
+        /** Drop the event straight away. */
+        DROP,
+        /** Keep every event while the buffer is below the threshold, one in {@code sampleRate} above it. */
+        SAMPLE
+    }
+}
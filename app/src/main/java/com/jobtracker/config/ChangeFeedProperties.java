@@ -0,0 +1,24 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@code GET /api/applications/changes}.
+ *
+ * @param settleDelay         how far behind the clock the feed reads. A row is stamped before
+ *                            its transaction commits, so the delay must exceed the longest write
+ *                            transaction and, with a read replica, its replication lag; otherwise
+ *                            a change can land behind a cursor already handed out
+ * @param pageSize            most changes returned by one call
+ * @param tombstoneRetention  how long deletions are kept; an older cursor gets 410 Gone and the
+ *                            client has to start over without one
+ */
+@ConfigurationProperties(prefix = "jobtracker.changes")
+public record ChangeFeedProperties(
+        @DefaultValue("5s") Duration settleDelay,
+        @DefaultValue("500") int pageSize,
+        @DefaultValue("30d") Duration tombstoneRetention) {
+}
@@ -0,0 +1,25 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@code GET /api/applications/events}.
+ *
+ * @param bufferSize             events queued per connection; a connection that falls this far
+ *                               behind is closed and its client reconnects and catches up through
+ *                               the change feed
+ * @param timeout                lifetime of one stream before the browser has to reconnect
+ * @param maxConnectionsPerUser  open streams allowed per user, i.e. dashboard tabs
+ * @param writeTimeout           longest a single write may block on a client that stopped reading
+ *                               before the connection is dropped; checked with each heartbeat
+ */
+@ConfigurationProperties(prefix = "jobtracker.events")
+public record EventStreamProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("10") int maxConnectionsPerUser,
+        @DefaultValue("30s") Duration writeTimeout) {
+}
@@ -0,0 +1,24 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * BCrypt settings and the admission limits of the hashing pool.
+ *
+ * @param bcryptCost        log2 rounds for new hashes; older hashes are upgraded on login
+ * @param threads           hashing threads, 0 for one per available processor
+ * @param queueCapacity     hashes allowed to wait for a thread before requests get 503
+ * @param retryAfterSeconds value of the Retry-After header sent with that 503
+ */
+@ConfigurationProperties(prefix = "jobtracker.password")
+public record PasswordHashingProperties(
+        @DefaultValue("10") int bcryptCost,
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("1") int retryAfterSeconds) {
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
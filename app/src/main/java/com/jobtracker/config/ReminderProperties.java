@@ -0,0 +1,20 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the follow-up reminder scan.
+ *
+ * @param staleAfter  how long an application may stay in Applied or Interview, counted both
+ *                    from its application date and from its last modification, before its
+ *                    owner is reminded
+ * @param chunkSize   applications claimed, reminded and committed per transaction
+ */
+@ConfigurationProperties(prefix = "jobtracker.reminders")
+public record ReminderProperties(
+        @DefaultValue("14d") Duration staleAfter,
+        @DefaultValue("500") int chunkSize) {
+}
@@ -0,0 +1,60 @@
+package com.jobtracker.config;
+
+import com.jobtracker.datasource.ReadWriteRoutingDataSource;
+import com.jobtracker.datasource.RecentWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Replaces the auto-configured pool with a primary and a replica pool behind a
+ * {@link ReadWriteRoutingDataSource} when {@code jobtracker.datasource.replica.url} is set.
+ * The pools are not beans of their own, so JPA, Flyway and the SQL statistics proxy all see
+ * the single routing data source; each pool reports {@code hikaricp.*} under its pool name.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "jobtracker.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public RecentWrites recentWrites(ReplicaDataSourceProperties replica) {
+        return new RecentWrites(replica.readYourWritesWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties,
+                                                 ReplicaDataSourceProperties replica,
+                                                 RecentWrites recentWrites,
+                                                 Environment environment,
+                                                 MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        HikariDataSource replicaPool = new HikariDataSource();
+        primary.copyStateTo(replicaPool);
+        replicaPool.setJdbcUrl(replica.url());
+        if (replica.username() != null) {
+            replicaPool.setUsername(replica.username());
+        }
+        if (replica.password() != null) {
+            replicaPool.setPassword(replica.password());
+        }
+        binder.bind("jobtracker.datasource.replica.hikari", Bindable.ofInstance(replicaPool));
+
+        primary.setPoolName("primary");
+        replicaPool.setPoolName("replica");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        replicaPool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return new ReadWriteRoutingDataSource(primary, replicaPool, recentWrites);
+    }
+}
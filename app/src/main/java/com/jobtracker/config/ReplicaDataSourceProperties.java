@@ -0,0 +1,24 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Optional read replica. When {@code url} is set, read-only transactions run against it;
+ * pool settings default to the primary's and can be overridden under {@code .hikari}.
+ *
+ * @param url                  JDBC URL of the replica
+ * @param username             defaults to {@code spring.datasource.username}
+ * @param password             defaults to {@code spring.datasource.password}
+ * @param readYourWritesWindow how long after a user's committed write their reads stay on
+ *                             the primary; should exceed the usual replication lag
+ */
+@ConfigurationProperties(prefix = "jobtracker.datasource.replica")
+public record ReplicaDataSourceProperties(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("5s") Duration readYourWritesWindow) {
+}
@@ -0,0 +1,48 @@
+package com.jobtracker.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Gives each persistence unit a JCache manager of its own. A caching provider hands out one
+     * manager per configuration URI, so every application context in the JVM (test contexts, the
+     * load test's successive apps) would share the regions, and the first to shut down would
+     * close them for the rest. A private provider keeps the manager, which Hibernate closes on
+     * shutdown, to this context.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer privateCacheManager() {
+        return properties -> {
+            if (!Boolean.parseBoolean(String.valueOf(properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE)))) {
+                return;
+            }
+            CaffeineCachingProvider provider = new CaffeineCachingProvider();
+            URI uri = configUri((String) properties.get(ConfigSettings.CONFIG_URI), provider);
+            properties.put(ConfigSettings.CACHE_MANAGER, provider.getCacheManager(uri, provider.getDefaultClassLoader()));
+        };
+    }
+
+    /** Resolves a classpath resource name the way Hibernate does for {@code hibernate.javax.cache.uri}. */
+    private static URI configUri(String location, CaffeineCachingProvider provider) {
+        if (location == null) {
+            return provider.getDefaultURI();
+        }
+        URL resource = provider.getDefaultClassLoader().getResource(location);
+        try {
+            return resource != null ? resource.toURI() : new URI(location);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid second-level cache configuration URI: " + location, e);
+        }
+    }
+}
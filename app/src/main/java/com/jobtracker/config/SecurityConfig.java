@@ -1,5 +1,11 @@
 package com.jobtracker.config;
 
+import com.jobtracker.security.AuthenticationStore;
+import com.jobtracker.security.DeletedAccountFilter;
+import com.jobtracker.security.DeletedAccounts;
+import com.jobtracker.security.TokenAuthenticationFilter;
+import com.jobtracker.security.TokenService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,6 +14,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,26 +29,44 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BCryptPasswordEncoder(properties.bcryptCost());
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   ObjectProvider<TokenService> tokenService,
+                                                   TokenProperties tokenProperties,
+                                                   DeletedAccounts deletedAccounts,
+                                                   AuthenticationStore authenticationStore) throws Exception {
+        TokenService tokens = tokenService.getIfAvailable();
+
         http
             .cors(cors -> {}) 
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
+                // Deletion progress is read after the owner has been signed out; the random id is the key.
+                .requestMatchers(HttpMethod.GET, "/api/account/deletions/*").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // Only reachable on the internal management port.
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
-                .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
+                .sessionCreationPolicy(tokens != null ? SessionCreationPolicy.STATELESS : SessionCreationPolicy.IF_REQUIRED)
             )
             .formLogin(AbstractHttpConfigurer::disable)
             .httpBasic(AbstractHttpConfigurer::disable);
 
+        if (tokens != null) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokens, tokenProperties.cookieName()),
+                    AnonymousAuthenticationFilter.class);
+        }
+        // Registered after the token filter, so it sees the principal from either store.
+        http.addFilterBefore(new DeletedAccountFilter(deletedAccounts, authenticationStore),
+                AnonymousAuthenticationFilter.class);
+
         return http.build();
     }
 
@@ -52,7 +77,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowCredentials(true);
         configuration.setAllowedHeaders(List.of("*"));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        // ETag must be readable for the frontend to send it back in If-Match / If-None-Match.
+        configuration.setExposedHeaders(List.of("Authorization", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,18 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-request SQL accounting.
+ *
+ * @param enabled         count statements and JDBC time for every HTTP request and publish
+ *                        them as {@code jobtracker.sql.statements} / {@code jobtracker.sql.time}
+ * @param responseHeaders also send the totals as {@code X-SQL-Statements} and
+ *                        {@code Server-Timing} headers; meant for development and tests
+ */
+@ConfigurationProperties(prefix = "jobtracker.sql-stats")
+public record SqlStatisticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean responseHeaders) {
+}
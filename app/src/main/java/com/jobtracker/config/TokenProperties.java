@@ -0,0 +1,27 @@
+package com.jobtracker.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for {@code jobtracker.auth.mode=token}.
+ *
+ * @param keys           signing keys by key id, each a base64 secret of at least 32 bytes.
+ *                       To rotate, add a key, make it active, and drop the old one once
+ *                       tokens signed with it have expired.
+ * @param activeKey      id of the key new tokens are signed with
+ * @param ttl            lifetime of an issued token
+ * @param cookieName     HttpOnly cookie carrying the token
+ * @param secureCookie   whether the cookie is only sent over HTTPS
+ */
+@ConfigurationProperties(prefix = "jobtracker.auth.token")
+public record TokenProperties(
+        @DefaultValue Map<String, String> keys,
+        String activeKey,
+        @DefaultValue("12h") Duration ttl,
+        @DefaultValue("JT_AUTH") String cookieName,
+        @DefaultValue("false") boolean secureCookie) {
+}
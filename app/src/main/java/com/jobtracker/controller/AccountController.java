@@ -0,0 +1,43 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.AccountDeletionStatus;
+import com.jobtracker.security.AuthenticationStore;
+import com.jobtracker.service.AccountDeletionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/account")
+public class AccountController {
+
+    private final AccountDeletionService accountDeletionService;
+    private final AuthenticationStore authenticationStore;
+
+    public AccountController(AccountDeletionService accountDeletionService, AuthenticationStore authenticationStore) {
+        this.accountDeletionService = accountDeletionService;
+        this.authenticationStore = authenticationStore;
+    }
+
+    /**
+     * Deletes the current user's account and signs the caller out. The data is purged in the
+     * background; the Location header points at its progress.
+     */
+    @DeleteMapping
+    public ResponseEntity<AccountDeletionStatus> deleteAccount(HttpServletRequest request, HttpServletResponse response) {
+        AccountDeletionStatus deletion = accountDeletionService.requestDeletion();
+        authenticationStore.signOut(request, response);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/account/deletions/" + deletion.id()))
+                .body(deletion);
+    }
+
+    @GetMapping("/deletions/{id}")
+    public AccountDeletionStatus getDeletion(@PathVariable UUID id) {
+        return accountDeletionService.getStatus(id);
+    }
+}
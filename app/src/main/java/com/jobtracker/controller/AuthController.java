@@ -1,30 +1,36 @@
 package com.jobtracker.controller;
 
+import com.jobtracker.audit.AuditAction;
+import com.jobtracker.audit.AuditLog;
 import com.jobtracker.dto.LoginRequest;
 import com.jobtracker.dto.RegisterRequest;
 import com.jobtracker.dto.UserResponse;
 import com.jobtracker.entity.User;
+import com.jobtracker.security.AuthenticatedUser;
+import com.jobtracker.security.AuthenticationStore;
+import com.jobtracker.security.CurrentUser;
 import com.jobtracker.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final CurrentUser currentUser;
+    private final AuthenticationStore authenticationStore;
+    private final AuditLog auditLog;
 
-    public AuthController(UserService userService, PasswordEncoder passwordEncoder) {
+    public AuthController(UserService userService, CurrentUser currentUser, AuthenticationStore authenticationStore,
+                          AuditLog auditLog) {
         this.userService = userService;
-        this.passwordEncoder = passwordEncoder;
+        this.authenticationStore = authenticationStore;
+        this.currentUser = currentUser;
+        this.auditLog = auditLog;
     }
 
     @PostMapping("/register")
@@ -38,41 +44,27 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public UserResponse login(@RequestBody LoginRequest req, HttpServletRequest request) {
-        User user = userService.findByEmail(req.email());
-        if (user == null || !passwordEncoder.matches(req.password(), user.getPasswordHash())) {
+    public UserResponse login(@RequestBody LoginRequest req, HttpServletRequest request, HttpServletResponse response) {
+        User user = userService.authenticate(req.email(), req.password());
+        if (user == null) {
+            auditLog.record(AuditAction.LOGIN_FAILED, null, null, req.email());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid email or password");
         }
 
-        UsernamePasswordAuthenticationToken authToken =
-                new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of());
-        SecurityContext context = SecurityContextHolder.createEmptyContext();
-        context.setAuthentication(authToken);
-        SecurityContextHolder.setContext(context);
-        request.getSession(true).setAttribute("SPRING_SECURITY_CONTEXT", context);
+        authenticationStore.signIn(AuthenticatedUser.from(user), request, response);
+        auditLog.record(AuditAction.LOGIN_SUCCEEDED, user.getId(), null, null);
 
         return UserResponse.from(user);
     }
 
     @PostMapping("/logout")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void logout(HttpServletRequest request) {
-        request.getSession().invalidate();
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        authenticationStore.signOut(request, response);
     }
 
     @GetMapping("/me")
     public UserResponse me() {
-        var auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not logged in");
-        }
-
-        String email = auth.getPrincipal().toString();
-        User user = userService.findByEmail(email);
-        if (user == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found");
-        }
-
-        return UserResponse.from(user);
+        return UserResponse.from(currentUser.get());
     }
 }
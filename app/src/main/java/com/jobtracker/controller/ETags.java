@@ -0,0 +1,88 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.dto.ApplicationResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Strong entity tags derived from the optimistic-lock version, so they can be computed
+ * without serializing the body. A {@code fields=} selection is a different representation,
+ * so anything short of every field adds the selected set to the tag, e.g. {@code "3-1b"}.
+ */
+final class ETags {
+
+    private static final Set<ApplicationField> ALL_FIELDS = Set.of(ApplicationField.values());
+
+    private ETags() {
+    }
+
+    static String of(ApplicationResponse application) {
+        return of(application, ALL_FIELDS);
+    }
+
+    static String of(ApplicationResponse application, Set<ApplicationField> fields) {
+        return "\"" + application.version() + selection(fields) + "\"";
+    }
+
+    /**
+     * A page is identified by the id and version of each row plus the cursor to the next
+     * page, which changes whenever a row on the page is edited, added or removed.
+     */
+    static String of(ApplicationPage page, Set<ApplicationField> fields) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (ApplicationResponse application : page.items()) {
+            digest.update((application.id() + ":" + application.version() + ";").getBytes(StandardCharsets.US_ASCII));
+        }
+        if (page.nextCursor() != null) {
+            digest.update(page.nextCursor().getBytes(StandardCharsets.US_ASCII));
+        }
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + selection(fields) + "\"";
+    }
+
+    /** Empty for every field, otherwise the selected set as a bit mask over the field ordinals. */
+    private static String selection(Set<ApplicationField> fields) {
+        if (fields.size() == ALL_FIELDS.size()) {
+            return "";
+        }
+        int mask = 0;
+        for (ApplicationField field : fields) {
+            mask |= 1 << field.ordinal();
+        }
+        return "-" + Integer.toHexString(mask);
+    }
+
+    /**
+     * Parses an If-Match header into the version it requires, or {@code null} when the
+     * header is absent or {@code *}. A tag of a field selection requires its version.
+     * Weak or foreign tags can never match strongly.
+     */
+    static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                String opaque = tag.substring(1, tag.length() - 1);
+                int selection = opaque.indexOf('-', 1);
+                return Long.valueOf(selection < 0 ? opaque : opaque.substring(0, selection));
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "If-Match does not match the current version");
+    }
+}
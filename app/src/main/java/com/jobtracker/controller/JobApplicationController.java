@@ -1,101 +1,200 @@
 package com.jobtracker.controller;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jobtracker.dto.ApplicationChanges;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.ApplicationStats;
+import com.jobtracker.dto.BatchRequest;
+import com.jobtracker.dto.BatchResponse;
+import com.jobtracker.dto.BulkStatusRequest;
+import com.jobtracker.dto.BulkStatusResponse;
+import com.jobtracker.dto.ExportFormat;
+import com.jobtracker.dto.ImportReport;
+import com.jobtracker.dto.SearchPage;
+import com.jobtracker.entity.ApplicationStatus;
 import com.jobtracker.entity.JobApplication;
-import com.jobtracker.entity.User;
-import com.jobtracker.exception.ResourceNotFoundException;
-import com.jobtracker.repository.JobApplicationRepository;
-import com.jobtracker.repository.UserRepository;
+import com.jobtracker.events.ApplicationEventHub;
+import com.jobtracker.service.ApplicationBatchService;
+import com.jobtracker.service.ApplicationBulkStatusService;
+import com.jobtracker.service.ApplicationChangeService;
+import com.jobtracker.service.ApplicationExportService;
+import com.jobtracker.service.ApplicationImportService;
+import com.jobtracker.service.ApplicationSearchService;
+import com.jobtracker.service.JobApplicationService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/applications")
 public class JobApplicationController {
 
-    private final JobApplicationRepository jobApplicationRepository;
-    private final UserRepository userRepository;
-
-    public JobApplicationController(JobApplicationRepository jobApplicationRepository, UserRepository userRepository) {
-        this.jobApplicationRepository = jobApplicationRepository;
-        this.userRepository = userRepository;
-    }
-
-    private User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authenticated user not found"));
+    private final JobApplicationService jobApplicationService;
+    private final ApplicationBatchService applicationBatchService;
+    private final ApplicationBulkStatusService applicationBulkStatusService;
+    private final ApplicationExportService applicationExportService;
+    private final ApplicationImportService applicationImportService;
+    private final ApplicationSearchService applicationSearchService;
+    private final ApplicationChangeService applicationChangeService;
+    private final ApplicationEventHub applicationEventHub;
+
+    public JobApplicationController(JobApplicationService jobApplicationService,
+                                    ApplicationBatchService applicationBatchService,
+                                    ApplicationBulkStatusService applicationBulkStatusService,
+                                    ApplicationExportService applicationExportService,
+                                    ApplicationImportService applicationImportService,
+                                    ApplicationSearchService applicationSearchService,
+                                    ApplicationChangeService applicationChangeService,
+                                    ApplicationEventHub applicationEventHub) {
+        this.jobApplicationService = jobApplicationService;
+        this.applicationBatchService = applicationBatchService;
+        this.applicationBulkStatusService = applicationBulkStatusService;
+        this.applicationExportService = applicationExportService;
+        this.applicationImportService = applicationImportService;
+        this.applicationSearchService = applicationSearchService;
+        this.applicationChangeService = applicationChangeService;
+        this.applicationEventHub = applicationEventHub;
     }
 
     @GetMapping
-    public List<JobApplication> getAllApplications() {
-        User currentUser = getCurrentUser();
-        return jobApplicationRepository.findByUser(currentUser);
+    public ResponseEntity<MappingJacksonValue> getAllApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + JobApplicationService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String fields) {
+        Set<ApplicationField> selected = parseFields(fields);
+        ApplicationPage page = jobApplicationService.getPageForCurrentUser(
+                new ApplicationFilter(status, from, to, company), cursor, limit, selected);
+        return ResponseEntity.ok().eTag(ETags.of(page, selected)).body(withFields(page, selected));
     }
 
-    @GetMapping("/{id}")
-    public JobApplication getApplicationById(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        JobApplication app = jobApplicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application with id " + id + " not found"));
+    @GetMapping("/search")
+    public SearchPage searchApplications(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + ApplicationSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return applicationSearchService.search(q, page, size);
+    }
 
-        if (!app.getUser().getId().equals(currentUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied: You do not own this application");
-        }
+    @GetMapping("/changes")
+    public ApplicationChanges getChanges(@RequestParam(required = false) String since) {
+        return applicationChangeService.getChanges(since);
+    }
 
-        return app;
+    /**
+     * Pushes created/updated/deleted/resync events for the current user; see {@link ApplicationEventHub}.
+     * Over the per-user limit the answer is a bare 429, which EventSource does not retry.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents() {
+        return applicationEventHub.subscribe()
+                .map(emitter -> ResponseEntity.ok()
+                        // Stops nginx from buffering the stream.
+                        .header("X-Accel-Buffering", "no")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build());
     }
 
-    @PostMapping
-    public JobApplication createApplication(@Valid @RequestBody JobApplication application) {
-        User currentUser = getCurrentUser();
+    @GetMapping("/stats")
+    public ApplicationStats getStats() {
+        return jobApplicationService.getStatsForCurrentUser();
+    }
 
-        if (application.getDateApplied() == null) {
-            application.setDateApplied(LocalDate.now());
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromParam(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
 
-        application.setUser(currentUser);
-        return jobApplicationRepository.save(application);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications." + exportFormat.extension())
+                        .build().toString())
+                .body(applicationExportService.export(exportFormat));
     }
 
-    @PutMapping("/{id}")
-    public JobApplication updateApplication(@PathVariable Long id, @Valid @RequestBody JobApplication updatedApplication) {
-        User currentUser = getCurrentUser();
+    @GetMapping("/{id}")
+    public ResponseEntity<MappingJacksonValue> getApplicationById(@PathVariable Long id,
+                                                                  @RequestParam(required = false) String fields) {
+        Set<ApplicationField> selected = parseFields(fields);
+        ApplicationResponse application = jobApplicationService.getById(id);
+        return ResponseEntity.ok().eTag(ETags.of(application, selected)).body(withFields(application, selected));
+    }
 
-        JobApplication app = jobApplicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found with id " + id));
+    @PostMapping
+    public ResponseEntity<ApplicationResponse> createApplication(@Valid @RequestBody JobApplication application) {
+        ApplicationResponse created = jobApplicationService.create(application);
+        return ResponseEntity.ok().eTag(ETags.of(created)).body(created);
+    }
 
-        if (!app.getUser().getId().equals(currentUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied: You do not own this application");
-        }
+    @PutMapping("/{id}")
+    public ResponseEntity<ApplicationResponse> updateApplication(@PathVariable Long id,
+                                                            @Valid @RequestBody JobApplication updatedApplication,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ApplicationResponse application = jobApplicationService.update(id, updatedApplication, ETags.requiredVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(application)).body(application);
+    }
 
-        if (updatedApplication.getCompanyName() != null) app.setCompanyName(updatedApplication.getCompanyName());
-        if (updatedApplication.getJobTitle() != null) app.setJobTitle(updatedApplication.getJobTitle());
-        if (updatedApplication.getStatus() != null) app.setStatus(updatedApplication.getStatus());
-        if (updatedApplication.getDateApplied() != null) app.setDateApplied(updatedApplication.getDateApplied());
-        if (updatedApplication.getNotes() != null) app.setNotes(updatedApplication.getNotes());
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteApplication(@PathVariable Long id,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        jobApplicationService.delete(id, ETags.requiredVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
 
-        return jobApplicationRepository.save(app);
+    @PostMapping("/batch")
+    public BatchResponse applyBatch(@Valid @RequestBody BatchRequest request) {
+        return new BatchResponse(applicationBatchService.apply(request.operations()));
     }
 
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteApplication(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
+    @PostMapping("/bulk-status")
+    public BulkStatusResponse changeStatus(@Valid @RequestBody BulkStatusRequest request) {
+        return new BulkStatusResponse(applicationBulkStatusService.changeStatus(request.filter(), request.targetStatus()));
+    }
 
-        JobApplication app = jobApplicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application with id " + id + " not found"));
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ImportReport importApplications(InputStream body) throws IOException {
+        return applicationImportService.importCsv(body);
+    }
 
-        if (!app.getUser().getId().equals(currentUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied: You do not own this application");
+    private static Set<ApplicationField> parseFields(String fields) {
+        try {
+            return ApplicationField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
+    }
 
-        jobApplicationRepository.delete(app);
-        return ResponseEntity.noContent().build();
+    /** Wraps the body so only the selected {@link ApplicationResponse} properties are written. */
+    private static MappingJacksonValue withFields(Object body, Set<ApplicationField> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(ApplicationResponse.FIELDS_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(ApplicationField.properties(fields))));
+        return value;
     }
 }
@@ -0,0 +1,30 @@
+package com.jobtracker.controller;
+
+import com.jobtracker.dto.ReminderResponse;
+import com.jobtracker.service.ApplicationReminderService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reminders")
+public class ReminderController {
+
+    private final ApplicationReminderService applicationReminderService;
+
+    public ReminderController(ApplicationReminderService applicationReminderService) {
+        this.applicationReminderService = applicationReminderService;
+    }
+
+    @GetMapping
+    public List<ReminderResponse> getReminders() {
+        return applicationReminderService.getForCurrentUser();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> dismissReminder(@PathVariable Long id) {
+        applicationReminderService.dismiss(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.jobtracker.csv;
+
+import java.io.IOException;
+
+public class CsvFormatException extends IOException {
+    public CsvFormatException(String message) {
+        super(message);
+    }
+}
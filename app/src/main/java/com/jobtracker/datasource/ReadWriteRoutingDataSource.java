@@ -0,0 +1,84 @@
+package com.jobtracker.datasource;
+
+import com.jobtracker.security.AuthenticatedUser;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica and everything else to
+ * the primary. Connections are fetched lazily, on the first statement, because the
+ * transaction's read-only flag is only known after the transaction manager has started it.
+ *
+ * <p>A committed read-write transaction marks its user in {@link RecentWrites}; that user's
+ * read-only work then stays on the primary for the configured window (read-your-writes).
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, RecentWrites recentWrites) {
+        this.primary = primary;
+        this.replica = replica;
+        Router router = new Router(recentWrites);
+        router.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (replica instanceof Closeable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+        private final RecentWrites recentWrites;
+
+        Router(RecentWrites recentWrites) {
+            this.recentWrites = recentWrites;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                return Route.PRIMARY;
+            }
+            Long userId = currentUserId();
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (userId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            recentWrites.record(userId);
+                        }
+                    });
+                }
+                return Route.PRIMARY;
+            }
+            return userId != null && recentWrites.wroteRecently(userId) ? Route.PRIMARY : Route.REPLICA;
+        }
+
+        private static Long currentUserId() {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            return auth != null && auth.getPrincipal() instanceof AuthenticatedUser user ? user.id() : null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobtracker.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write in the last {@code window}, so their reads can be
+ * kept on the primary until the replica has caught up. Per instance: a user whose next
+ * request lands on another instance is only protected with session affinity.
+ */
+public class RecentWrites {
+
+    /** Above this many tracked users, expired entries are dropped on the next write. */
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<Long, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public RecentWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void record(Long userId) {
+        long now = System.nanoTime();
+        lastWriteByUser.put(userId, now);
+        if (lastWriteByUser.size() > PRUNE_THRESHOLD) {
+            lastWriteByUser.values().removeIf(at -> now - at > windowNanos);
+        }
+    }
+
+    public boolean wroteRecently(Long userId) {
+        Long at = lastWriteByUser.get(userId);
+        return at != null && System.nanoTime() - at <= windowNanos;
+    }
+}
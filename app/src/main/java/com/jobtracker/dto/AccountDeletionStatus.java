@@ -0,0 +1,18 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.AccountDeletion;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Progress of purging a deleted account; {@code state} is PENDING, IN_PROGRESS or COMPLETED. */
+public record AccountDeletionStatus(UUID id, String state, long totalApplications, long deletedApplications,
+                                    Instant requestedAt, Instant completedAt) {
+
+    public static AccountDeletionStatus from(AccountDeletion deletion) {
+        String state = deletion.getCompletedAt() != null ? "COMPLETED"
+                : deletion.getDeletedApplications() > 0 ? "IN_PROGRESS" : "PENDING";
+        return new AccountDeletionStatus(deletion.getId(), state, deletion.getTotalApplications(),
+                deletion.getDeletedApplications(), deletion.getRequestedAt(), deletion.getCompletedAt());
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** A live application as read by the change feed, with its position in the feed. */
+public record ApplicationChange(Long id, String companyName, String jobTitle, ApplicationStatus status,
+                                LocalDate dateApplied, String notes, Long version, Instant updatedAt) {
+
+    public ApplicationResponse toResponse() {
+        return new ApplicationResponse(id, companyName, jobTitle, status, dateApplied, notes, version);
+    }
+}
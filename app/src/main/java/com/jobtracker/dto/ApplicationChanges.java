@@ -0,0 +1,11 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * Applications created or modified and ids deleted since the request's cursor. Pass
+ * {@code cursor} back as {@code since} on the next call; when {@code hasMore} is set the
+ * feed was cut at the page size and the next call continues right away.
+ */
+public record ApplicationChanges(List<ApplicationResponse> changed, List<Long> deleted,
+                                 String cursor, boolean hasMore) {}
@@ -0,0 +1,12 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, unmanaged view of an application used by the export stream. Selected through
+ * a constructor expression, so rows never enter the persistence context.
+ */
+public record ApplicationExportRow(Long id, String companyName, String jobTitle, ApplicationStatus status,
+                                   LocalDate dateApplied, String notes) {}
@@ -0,0 +1,59 @@
+package com.jobtracker.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of {@link ApplicationResponse} a client can ask for with {@code fields=}.
+ * Names match both the JSON property and the entity attribute.
+ */
+public enum ApplicationField {
+    ID("id"),
+    COMPANY_NAME("companyName"),
+    JOB_TITLE("jobTitle"),
+    STATUS("status"),
+    DATE_APPLIED("dateApplied"),
+    NOTES("notes"),
+    VERSION("version");
+
+    private final String property;
+
+    ApplicationField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated list such as {@code id,companyName,status}. Blank means
+     * every field; {@code id} is always included.
+     *
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static Set<ApplicationField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.unmodifiableSet(EnumSet.allOf(ApplicationField.class));
+        }
+        EnumSet<ApplicationField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.property.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + trimmed + "'")));
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+
+    public static Set<String> properties(Set<ApplicationField> fields) {
+        return fields.stream().map(ApplicationField::property).collect(Collectors.toSet());
+    }
+}
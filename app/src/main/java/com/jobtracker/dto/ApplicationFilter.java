@@ -0,0 +1,16 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+
+public record ApplicationFilter(ApplicationStatus status, LocalDate from, LocalDate to, String company) {
+
+    public static ApplicationFilter none() {
+        return new ApplicationFilter(null, null, null, null);
+    }
+
+    public boolean hasCompany() {
+        return company != null && !company.isBlank();
+    }
+}
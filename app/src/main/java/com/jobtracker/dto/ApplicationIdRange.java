@@ -0,0 +1,4 @@
+package com.jobtracker.dto;
+
+/** How many applications match a bulk change and the ids they span; the ids are null when none match. */
+public record ApplicationIdRange(long count, Long minId, Long maxId) {}
@@ -0,0 +1,5 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+public record ApplicationPage(List<ApplicationResponse> items, String nextCursor) {}
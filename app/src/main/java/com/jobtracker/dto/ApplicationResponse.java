@@ -0,0 +1,23 @@
+package com.jobtracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+
+import java.time.LocalDate;
+
+/**
+ * API view of a job application. Sparse-fieldset reads leave unrequested properties null
+ * and drop them from the JSON through the {@value #FIELDS_FILTER} filter.
+ */
+@JsonFilter(ApplicationResponse.FIELDS_FILTER)
+public record ApplicationResponse(Long id, String companyName, String jobTitle, ApplicationStatus status,
+                                  LocalDate dateApplied, String notes, Long version) {
+
+    public static final String FIELDS_FILTER = "applicationFields";
+
+    public static ApplicationResponse from(JobApplication application) {
+        return new ApplicationResponse(application.getId(), application.getCompanyName(), application.getJobTitle(),
+                application.getStatus(), application.getDateApplied(), application.getNotes(), application.getVersion());
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record ApplicationStats(long total,
+                               Map<ApplicationStatus, Long> byStatus,
+                               List<MonthlyTotal> byMonth,
+                               Funnel funnel) {
+
+    /** Applications whose dateApplied falls in the given month, formatted as yyyy-MM. */
+    public record MonthlyTotal(String month, long count) {}
+
+    /**
+     * Conversion through Applied, Interview and Offer, derived from current statuses:
+     * every tracked application counts as applied, Interview and Offer count as
+     * interviewed, and Offer counts as offered. Rates are 0 when the base is empty.
+     */
+    public record Funnel(long applied, long interviewed, long offered,
+                         double appliedToInterviewRate, double interviewToOfferRate) {}
+}
@@ -0,0 +1,9 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.JobApplication;
+
+/**
+ * One item of a batch request. {@code id} is required for UPDATE and DELETE,
+ * {@code application} for CREATE and UPDATE.
+ */
+public record BatchOperation(BatchOperationType op, Long id, JobApplication application) {}
@@ -0,0 +1,7 @@
+package com.jobtracker.dto;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
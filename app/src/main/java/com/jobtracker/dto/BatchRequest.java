@@ -0,0 +1,14 @@
+package com.jobtracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchRequest(
+        @NotNull(message = "operations is required")
+        @Size(max = BatchRequest.MAX_OPERATIONS, message = "A batch can contain at most " + BatchRequest.MAX_OPERATIONS + " operations")
+        List<BatchOperation> operations) {
+
+    public static final int MAX_OPERATIONS = 500;
+}
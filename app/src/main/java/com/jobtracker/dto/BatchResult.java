@@ -0,0 +1,16 @@
+package com.jobtracker.dto;
+
+/**
+ * Outcome of one batch item, reported at the same index as the request item.
+ * {@code status} uses the HTTP code the equivalent single-item call would return.
+ */
+public record BatchResult(int index, BatchOperationType op, int status, Long id, ApplicationResponse application, String error) {
+
+    public static BatchResult success(int index, BatchOperationType op, int status, Long id, ApplicationResponse application) {
+        return new BatchResult(index, op, status, id, application, null);
+    }
+
+    public static BatchResult failure(int index, BatchOperationType op, int status, Long id, String error) {
+        return new BatchResult(index, op, status, id, null, error);
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Moves every application matching the filter fields to {@code targetStatus}. The filter
+ * fields mean the same as the list parameters; omitted ones do not restrict the selection.
+ */
+public record BulkStatusRequest(
+        ApplicationStatus status,
+        LocalDate from,
+        LocalDate to,
+        String company,
+        @NotNull(message = "targetStatus is required")
+        ApplicationStatus targetStatus) {
+
+    public ApplicationFilter filter() {
+        return new ApplicationFilter(status, from, to, company);
+    }
+}
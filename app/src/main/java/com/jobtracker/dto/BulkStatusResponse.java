@@ -0,0 +1,3 @@
+package com.jobtracker.dto;
+
+public record BulkStatusResponse(long updated) {}
@@ -0,0 +1,53 @@
+package com.jobtracker.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Position in the (changedAt, id) ordering of a user's change feed, plus the upper bound
+ * of the read that produced it. Everything at or before the position has been delivered;
+ * {@code readUntil} tells how recent the client's view is, which decides whether the
+ * tombstones it still needs may already have been purged.
+ * Serialized as an opaque URL-safe token so clients never build it themselves.
+ */
+public record ChangeCursor(Instant changedAt, long id, Instant readUntil) {
+
+    /** Start of the feed: a client without a cursor receives every live application. */
+    public static final ChangeCursor ORIGIN = new ChangeCursor(Instant.EPOCH, 0, Instant.EPOCH);
+
+    /** Position after everything that changed up to {@code until}. */
+    public static ChangeCursor until(Instant until) {
+        return new ChangeCursor(until, Long.MAX_VALUE, until);
+    }
+
+    public String encode() {
+        String raw = micros(changedAt) + ":" + id + ":" + micros(readUntil);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ChangeCursor(
+                    instant(Long.parseLong(parts[0])),
+                    Long.parseLong(parts[1]),
+                    instant(Long.parseLong(parts[2])));
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant instant(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,6 @@
+package com.jobtracker.dto;
+
+import java.time.LocalDate;
+
+/** An application claimed by the reminder scan; the date and id are its keyset position. */
+public record DueApplication(Long id, Long userId, LocalDate dateApplied) {}
@@ -0,0 +1,9 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import. Only the first {@code ApplicationImportService.MAX_REPORTED_ERRORS}
+ * errors are listed; {@code rejected} always counts all of them.
+ */
+public record ImportReport(long imported, long rejected, List<ImportError> errors, boolean errorsTruncated) {}
@@ -0,0 +1,3 @@
+package com.jobtracker.dto;
+
+public record MonthCount(Integer year, Integer month, Long count) {}
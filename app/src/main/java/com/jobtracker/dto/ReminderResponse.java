@@ -0,0 +1,10 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/** A follow-up reminder with enough of its application to render it. */
+public record ReminderResponse(Long id, Long applicationId, String companyName, String jobTitle,
+                               ApplicationStatus status, LocalDate dateApplied, Instant createdAt) {}
@@ -0,0 +1,5 @@
+package com.jobtracker.dto;
+
+import java.util.List;
+
+public record SearchPage(List<ApplicationResponse> items, int page, int size, boolean hasMore) {}
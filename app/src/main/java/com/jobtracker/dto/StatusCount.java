@@ -0,0 +1,5 @@
+package com.jobtracker.dto;
+
+import com.jobtracker.entity.ApplicationStatus;
+
+public record StatusCount(ApplicationStatus status, Long count) {}
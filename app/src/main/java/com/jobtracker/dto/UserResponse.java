@@ -1,9 +1,14 @@
 package com.jobtracker.dto;
 
 import com.jobtracker.entity.User;
+import com.jobtracker.security.AuthenticatedUser;
 
 public record UserResponse(Long id, String email, String userName) {
     public static UserResponse from(User user) {
         return new UserResponse(user.getId(), user.getEmail(), user.getUserName());
     }
+
+    public static UserResponse from(AuthenticatedUser user) {
+        return new UserResponse(user.id(), user.email(), user.userName());
+    }
 }
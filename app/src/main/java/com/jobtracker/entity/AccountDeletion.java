@@ -0,0 +1,77 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A deleted account and the progress of purging its data. The id is random and doubles
+ * as the capability for reading the progress once the owner has been signed out.
+ */
+@Entity
+@Table(name = "account_deletion", indexes = {
+        @Index(name = "idx_account_deletion_requested", columnList = "requested_at")
+})
+public class AccountDeletion {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    @Column(name = "total_applications", nullable = false)
+    private long totalApplications;
+
+    @Column(name = "deleted_applications", nullable = false)
+    private long deletedApplications;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    protected AccountDeletion() {
+    }
+
+    public AccountDeletion(UUID id, Long userId, Instant requestedAt, long totalApplications) {
+        this.id = id;
+        this.userId = userId;
+        this.requestedAt = requestedAt;
+        this.totalApplications = totalApplications;
+    }
+
+    public void recordDeleted(int applications) {
+        deletedApplications += applications;
+    }
+
+    public void complete(Instant at) {
+        completedAt = at;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    public long getTotalApplications() {
+        return totalApplications;
+    }
+
+    public long getDeletedApplications() {
+        return deletedApplications;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+}
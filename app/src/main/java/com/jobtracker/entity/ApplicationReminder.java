@@ -0,0 +1,76 @@
+package com.jobtracker.entity;
+
+import com.jobtracker.dto.DueApplication;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Tells the owner that an application has sat in {@link #getStatus()} for longer than the
+ * configured period. Written in batches by the reminder scan and deleted when dismissed.
+ */
+@Entity
+@Table(name = "application_reminder", indexes = {
+        @Index(name = "idx_application_reminder_user_created", columnList = "user_id, created_at DESC, id DESC"),
+        @Index(name = "idx_application_reminder_application", columnList = "application_id")
+})
+@SqlResultSetMapping(name = ApplicationReminder.DUE_APPLICATION_MAPPING, classes = @ConstructorResult(
+        targetClass = DueApplication.class, columns = {
+                @ColumnResult(name = "id", type = Long.class),
+                @ColumnResult(name = "user_id", type = Long.class),
+                @ColumnResult(name = "date_applied", type = LocalDate.class)
+        }))
+public class ApplicationReminder {
+
+    /** Maps the reminder scan's native claim query, whose date column would otherwise come back as java.sql.Date. */
+    public static final String DUE_APPLICATION_MAPPING = "DueApplication";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_reminder_seq")
+    @SequenceGenerator(name = "application_reminder_seq", sequenceName = "application_reminder_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected ApplicationReminder() {
+    }
+
+    public ApplicationReminder(Long applicationId, Long userId, ApplicationStatus status, Instant createdAt) {
+        this.applicationId = applicationId;
+        this.userId = userId;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
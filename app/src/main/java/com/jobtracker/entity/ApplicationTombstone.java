@@ -0,0 +1,48 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Marks a deleted application so the change feed can report it. Written in the same
+ * transaction as the delete and kept for the configured retention.
+ */
+@Entity
+@Table(name = "job_application_tombstone", indexes = {
+        @Index(name = "idx_job_application_tombstone_user_deleted", columnList = "user_id, deleted_at, id"),
+        @Index(name = "idx_job_application_tombstone_deleted", columnList = "deleted_at")
+})
+public class ApplicationTombstone {
+
+    /** Id of the deleted application; ids come from a sequence and are never reused. */
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    protected ApplicationTombstone() {
+    }
+
+    public ApplicationTombstone(Long id, Long userId, Instant deletedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobtracker.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * A row of the append-only audit trail. Written in batches by {@code AuditLog} over plain JDBC;
+ * the mapping is for reading it back. The table has no foreign keys, so the trail outlives
+ * deleted applications and accounts.
+ */
+@Entity
+@Immutable
+@Table(name = "audit_event", indexes = {
+        @Index(name = "idx_audit_event_user_occurred", columnList = "user_id, occurred_at")
+})
+public class AuditEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String action;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(length = 255)
+    private String detail;
+
+    protected AuditEvent() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+}
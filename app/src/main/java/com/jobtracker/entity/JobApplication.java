@@ -2,21 +2,31 @@ package com.jobtracker.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.validation.constraints.NotBlank;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "applications")
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_application_seq")
+    @SequenceGenerator(name = "job_application_seq", sequenceName = "job_application_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JsonIgnore
     private User user;
 
@@ -31,11 +41,35 @@ public class JobApplication {
     @Enumerated(EnumType.STRING)
     private ApplicationStatus status;
 
+    @Column(nullable = false)
     private LocalDate dateApplied;
 
     @Size(max = 500, message = "Notes cannot exceed 500 characters")
     private String notes;
 
+    @Version
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    /**
+     * Position in the change feed. Stamped on every insert and entity update; bulk
+     * statements must set it themselves.
+     */
+    @UpdateTimestamp
+    @Column(nullable = false)
+    @JsonIgnore
+    private Instant updatedAt;
+
+    /**
+     * Status the last follow-up reminder was written for. Only ever set by the reminder scan's
+     * own statement, so entity writes leave it alone.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reminder_status", insertable = false, updatable = false)
+    @JsonIgnore
+    private ApplicationStatus reminderStatus;
+
     public Long getId() {
         return id;
     }
@@ -84,6 +118,18 @@ public class JobApplication {
         this.notes = notes;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
     public User getUser() {
         return user;
     }
@@ -0,0 +1,38 @@
+package com.jobtracker.events;
+
+import com.jobtracker.dto.ApplicationResponse;
+
+import java.util.Locale;
+
+/**
+ * A committed change to one of a user's applications, published by the services and pushed
+ * to that user's open event streams. {@code RESYNC} stands for changes too many to list one
+ * by one, such as an import; clients fetch them from the change feed.
+ */
+public record ApplicationChangeEvent(Long userId, Type type, Long applicationId, ApplicationResponse application) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESYNC;
+
+        /** SSE event name. */
+        public String eventName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static ApplicationChangeEvent created(Long userId, ApplicationResponse application) {
+        return new ApplicationChangeEvent(userId, Type.CREATED, application.id(), application);
+    }
+
+    public static ApplicationChangeEvent updated(Long userId, ApplicationResponse application) {
+        return new ApplicationChangeEvent(userId, Type.UPDATED, application.id(), application);
+    }
+
+    public static ApplicationChangeEvent deleted(Long userId, Long applicationId) {
+        return new ApplicationChangeEvent(userId, Type.DELETED, applicationId, null);
+    }
+
+    public static ApplicationChangeEvent resync(Long userId) {
+        return new ApplicationChangeEvent(userId, Type.RESYNC, null, null);
+    }
+}
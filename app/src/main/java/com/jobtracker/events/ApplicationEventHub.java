@@ -0,0 +1,273 @@
+package com.jobtracker.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.config.EventStreamProperties;
+import com.jobtracker.security.CurrentUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of {@link ApplicationChangeEvent}s to each user's open SSE streams.
+ *
+ * <p>An open stream is an async request holding no thread. Every connection has a bounded
+ * queue of serialized frames; publishing only enqueues, and a virtual thread of the
+ * connection's own writes the queue out to its socket while there is something to write. A
+ * client that stops reading therefore blocks only its own writer. Its queue filling up, or a
+ * single write outlasting {@code writeTimeout}, drops the connection: it costs at most
+ * {@code bufferSize} frames and never delays the request that committed the change or any
+ * other stream. Heartbeat comments keep proxies from timing out idle streams and flush out
+ * connections whose client has gone away.
+ *
+ * <p>Delivery is best effort and per instance: a client that reconnects, or is connected to
+ * another instance, catches up through {@code GET /api/applications/changes}.
+ */
+@Component
+public class ApplicationEventHub {
+
+    private final CurrentUser currentUser;
+    private final ObjectMapper objectMapper;
+    private final EventStreamProperties properties;
+    private final ExecutorService sender;
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter dropped;
+
+    public ApplicationEventHub(CurrentUser currentUser, ObjectMapper objectMapper,
+                               EventStreamProperties properties, MeterRegistry meterRegistry) {
+        this.currentUser = currentUser;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        // At most one writer per connection at a time; a blocked socket write parks only that one.
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-sender-", 1).factory());
+
+        this.dropped = Counter.builder("jobtracker.events.dropped")
+                .description("Event streams closed because the client fell too far behind")
+                .register(meterRegistry);
+        Gauge.builder("jobtracker.events.connections", connections, AtomicInteger::get)
+                .description("Open event streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the current user's application changes, or returns empty when the
+     * user already has {@code maxConnectionsPerUser} streams open.
+     */
+    public Optional<SseEmitter> subscribe() {
+        return subscribe(currentUser.id(), new SseEmitter(properties.timeout().toMillis()));
+    }
+
+    Optional<SseEmitter> subscribe(Long userId, SseEmitter emitter) {
+        Subscription subscription = new Subscription(userId, emitter, properties.bufferSize());
+
+        boolean[] added = new boolean[1];
+        subscriptions.compute(userId, (id, open) -> {
+            Set<Subscription> set = open != null ? open : ConcurrentHashMap.newKeySet();
+            if (set.size() < properties.maxConnectionsPerUser()) {
+                added[0] = set.add(subscription);
+                connections.incrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+        if (!added[0]) {
+            return Optional.empty();
+        }
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+        // Commits the response headers so the client sees the stream open straight away.
+        subscription.offer(SseEmitter.event().comment("connected").build());
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Runs after the publishing transaction commits, or straight away when it was published
+     * outside one (the repository call has committed by then).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(ApplicationChangeEvent event) {
+        Set<Subscription> open = subscriptions.get(event.userId());
+        if (open == null || open.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> frame = frame(event);
+        for (Subscription subscription : open) {
+            subscription.offer(frame);
+        }
+    }
+
+    /** Also drops connections stuck in one write for longer than {@code writeTimeout}. */
+    @Scheduled(fixedRateString = "${jobtracker.events.heartbeat:PT20S}")
+    public void heartbeat() {
+        if (connections.get() == 0) {
+            return;
+        }
+        long stalledSince = System.nanoTime() - properties.writeTimeout().toNanos();
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("").build();
+        subscriptions.values().forEach(open -> open.forEach(subscription -> {
+            if (!subscription.abortIfWritingSince(stalledSince)) {
+                subscription.offer(frame);
+            }
+        }));
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.values().forEach(open -> open.forEach(Subscription::evict));
+        sender.shutdown();
+    }
+
+    private Set<DataWithMediaType> frame(ApplicationChangeEvent event) {
+        Object payload = switch (event.type()) {
+            case CREATED, UPDATED -> event.application();
+            case DELETED -> Map.of("id", event.applicationId());
+            case RESYNC -> Map.of();
+        };
+        try {
+            // Serialized once here instead of once per connection by the message converters.
+            return SseEmitter.event()
+                    .name(event.type().eventName())
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.type() + " event", e);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        subscription.closed = true;
+        boolean[] removed = new boolean[1];
+        subscriptions.computeIfPresent(subscription.userId, (id, open) -> {
+            removed[0] = open.remove(subscription);
+            return open.isEmpty() ? null : open;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+        }
+    }
+
+    private final class Subscription {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+        private volatile boolean closed;
+        /** The writer and when its current send started; null between sends. */
+        private volatile Thread writer;
+        private volatile long writingSince;
+
+        private Subscription(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /** Never blocks: the frame is queued for the writer or the connection is dropped. */
+        void offer(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                dropped.increment();
+                // A full queue means a writer is running or scheduled; it completes the emitter once
+                // its send returns, or the write timeout interrupts it.
+                evicted.set(true);
+                remove(this);
+            }
+            scheduleDrain();
+        }
+
+        void evict() {
+            evicted.set(true);
+            remove(this);
+            scheduleDrain();
+        }
+
+        /**
+         * Drops the connection when its writer has been blocked in one send since before
+         * {@code stalledSince}, interrupting the write. Returns whether it did.
+         */
+        boolean abortIfWritingSince(long stalledSince) {
+            Thread blocked = writer;
+            if (blocked == null || writingSince - stalledSince > 0) {
+                return false;
+            }
+            dropped.increment();
+            evicted.set(true);
+            remove(this);
+            blocked.interrupt();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    remove(this);
+                }
+            }
+        }
+
+        /**
+         * Writes queued frames until the queue is empty. SseEmitter serializes sends and
+         * completion on its own monitor, so completing an evicted emitter is left to this
+         * task rather than done from the publishing thread.
+         */
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    writingSince = System.nanoTime();
+                    writer = Thread.currentThread();
+                    emitter.send(frame);
+                    writer = null;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the write timed out; the container reports it through
+                // onError/onCompletion.
+                remove(this);
+            } finally {
+                writer = null;
+                // A timeout's interrupt may land after the send returned; it must not reach complete().
+                Thread.interrupted();
+                draining.set(false);
+            }
+            if (closed) {
+                queue.clear();
+                if (evicted.compareAndSet(true, false)) {
+                    emitter.complete();
+                }
+            } else if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.AccountDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, UUID> {
+
+    Optional<AccountDeletion> findByUserId(Long userId);
+
+    List<AccountDeletion> findByRequestedAtAfter(Instant after);
+
+    @Query("select d.id from AccountDeletion d where d.completedAt is null order by d.requestedAt")
+    List<UUID> findPendingIds();
+
+    /**
+     * Locks the deletion if it is still pending and no other instance holds it. Native because
+     * the dialect renders PESSIMISTIC_WRITE as FOR NO KEY UPDATE, which H2 does not accept.
+     */
+    @NativeQuery("select * from account_deletion where id = :id and completed_at is null for update skip locked")
+    Optional<AccountDeletion> claimPending(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AccountDeletion d where d.completedAt < :before")
+    int deleteCompletedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,74 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.DueApplication;
+import com.jobtracker.dto.ReminderResponse;
+import com.jobtracker.entity.ApplicationReminder;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface ApplicationReminderRepository extends JpaRepository<ApplicationReminder, Long> {
+
+    /**
+     * Locks the next {@code limit} applications in {@code status} that were applied for on or
+     * before {@code appliedBefore}, not modified since {@code untouchedSince} and not yet reminded
+     * for that status, in (date_applied, id) order after the given position. Rows locked by
+     * another instance's scan are skipped rather than waited for.
+     *
+     * <p>The literal status list and the IS DISTINCT FROM test repeat the predicate of
+     * idx_job_application_reminder_due so the planner can use it with a generic plan; the
+     * position and cutoff then bound a single range scan of that index.
+     */
+    @NativeQuery(sqlResultSetMapping = ApplicationReminder.DUE_APPLICATION_MAPPING, value = """
+            select a.id, a.user_id, a.date_applied from job_application a
+            where a.status in ('Applied', 'Interview') and a.reminder_status is distinct from a.status
+                and a.status = :status
+                and a.date_applied <= :appliedBefore
+                and (a.date_applied, a.id) > (:afterDate, :afterId)
+                and a.updated_at <= :untouchedSince
+            order by a.date_applied, a.id
+            limit :limit
+            for update skip locked
+            """)
+    List<DueApplication> claimDue(@Param("status") String status,
+                                  @Param("appliedBefore") LocalDate appliedBefore,
+                                  @Param("untouchedSince") Instant untouchedSince,
+                                  @Param("afterDate") LocalDate afterDate,
+                                  @Param("afterId") long afterId,
+                                  @Param("limit") int limit);
+
+    /**
+     * Records that the claimed applications have been reminded for their current status.
+     * Neither the version nor the change-feed stamp moves: nothing the owner sees changed.
+     * The declared query space keeps Hibernate from evicting the cached applications, none
+     * of which expose the column.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "application_reminder"))
+    @Query(nativeQuery = true, value = "update job_application set reminder_status = status where id in :ids")
+    int markReminded(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new com.jobtracker.dto.ReminderResponse(
+                r.id, a.id, a.companyName, a.jobTitle, r.status, a.dateApplied, r.createdAt)
+            from ApplicationReminder r join JobApplication a on a.id = r.applicationId
+            where r.userId = :userId
+            order by r.createdAt desc, r.id desc
+            """)
+    List<ReminderResponse> findResponsesByUserId(@Param("userId") Long userId, Limit limit);
+
+    @Modifying
+    @Query("delete from ApplicationReminder r where r.id = :id and r.userId = :userId")
+    int deleteOwned(@Param("id") Long id, @Param("userId") Long userId);
+}
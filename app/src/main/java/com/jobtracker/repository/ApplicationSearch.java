@@ -0,0 +1,18 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.JobApplication;
+
+import java.util.List;
+
+/**
+ * Ranked search over company name, job title and notes of one user's applications.
+ * Every term must match (as a prefix of a word in Postgres, as a substring in the
+ * fallback); better matches come first.
+ */
+public interface ApplicationSearch {
+
+    /**
+     * @param terms lower-case search terms made of letters and digits only
+     */
+    List<JobApplication> search(Long userId, List<String> terms, int offset, int limit);
+}
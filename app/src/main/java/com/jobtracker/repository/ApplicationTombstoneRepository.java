@@ -0,0 +1,34 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.ApplicationTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ApplicationTombstoneRepository extends JpaRepository<ApplicationTombstone, Long> {
+
+    /** Deletions in the same window and order as {@link JobApplicationRepository#findChanges}. */
+    @Query("""
+            select t from ApplicationTombstone t
+            where t.userId = :userId
+                and t.deletedAt >= :afterAt and t.deletedAt <= :until
+                and (t.deletedAt > :afterAt or t.id > :afterId)
+            order by t.deletedAt, t.id
+            """)
+    List<ApplicationTombstone> findChanges(@Param("userId") Long userId,
+                                           @Param("afterAt") Instant afterAt,
+                                           @Param("afterId") long afterId,
+                                           @Param("until") Instant until,
+                                           Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ApplicationTombstone t where t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -0,0 +1,13 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.AuditEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AuditEventRepository extends JpaRepository<AuditEvent, Long> {
+
+    List<AuditEvent> findByUserIdOrderById(Long userId);
+
+    List<AuditEvent> findByActionOrderById(String action);
+}
@@ -1,13 +1,185 @@
 package com.jobtracker.repository;
 
+import com.jobtracker.dto.ApplicationChange;
+import com.jobtracker.dto.ApplicationExportRow;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.MonthCount;
+import com.jobtracker.dto.StatusCount;
+import com.jobtracker.entity.ApplicationStatus;
 import com.jobtracker.entity.JobApplication;
-import com.jobtracker.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
-    List<JobApplication> findByUser(User user);
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>, JobApplicationRepositoryCustom {
+
+    /** Query region of the first-page lookups; any write to the table invalidates it. */
+    String APPLICATIONS_BY_USER_REGION = "applications-by-user";
+
+    Optional<JobApplication> findByIdAndUserId(Long id, Long userId);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("""
+            select new com.jobtracker.dto.ApplicationResponse(
+                a.id, a.companyName, a.jobTitle, a.status, a.dateApplied, a.notes, a.version)
+            from JobApplication a
+            where a.id = :id and a.user.id = :userId
+            """)
+    Optional<ApplicationResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    List<JobApplication> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Query("select a.id from JobApplication a where a.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams every application of the user as unmanaged rows. Must be consumed inside a
+     * transaction; the fetch size makes the driver page through a server-side cursor
+     * instead of buffering the whole result.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.jobtracker.dto.ApplicationExportRow(
+                a.id, a.companyName, a.jobTitle, a.status, a.dateApplied, a.notes)
+            from JobApplication a
+            where a.user.id = :userId
+            order by a.dateApplied desc, a.id desc
+            """)
+    Stream<ApplicationExportRow> streamExportRows(@Param("userId") Long userId);
+
+    /**
+     * Applications of the user positioned after ({@code afterAt}, {@code afterId}) in
+     * (updatedAt, id) order and stamped no later than {@code until}; one range scan of
+     * idx_job_application_user_updated.
+     */
+    @Query("""
+            select new com.jobtracker.dto.ApplicationChange(
+                a.id, a.companyName, a.jobTitle, a.status, a.dateApplied, a.notes, a.version, a.updatedAt)
+            from JobApplication a
+            where a.user.id = :userId
+                and a.updatedAt >= :afterAt and a.updatedAt <= :until
+                and (a.updatedAt > :afterAt or a.id > :afterId)
+            order by a.updatedAt, a.id
+            """)
+    List<ApplicationChange> findChanges(@Param("userId") Long userId,
+                                        @Param("afterAt") Instant afterAt,
+                                        @Param("afterId") long afterId,
+                                        @Param("until") Instant until,
+                                        Limit limit);
+
+    @Query("""
+            select new com.jobtracker.dto.StatusCount(a.status, count(a))
+            from JobApplication a
+            where a.user.id = :userId
+            group by a.status
+            """)
+    List<StatusCount> countByStatus(@Param("userId") Long userId);
+
+    @Query("""
+            select new com.jobtracker.dto.MonthCount(
+                extract(year from a.dateApplied), extract(month from a.dateApplied), count(a))
+            from JobApplication a
+            where a.user.id = :userId
+            group by extract(year from a.dateApplied), extract(month from a.dateApplied)
+            order by extract(year from a.dateApplied), extract(month from a.dateApplied)
+            """)
+    List<MonthCount> countByMonth(@Param("userId") Long userId);
+
+    /**
+     * Applies the non-null arguments to the application if it belongs to the user and,
+     * when {@code version} is given, is still at that version. Bumps the version.
+     * Returns the number of rows changed, so 0 means missing, not owned or stale.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JobApplication a set
+                a.companyName = coalesce(:companyName, a.companyName),
+                a.jobTitle = coalesce(:jobTitle, a.jobTitle),
+                a.status = coalesce(:status, a.status),
+                a.dateApplied = coalesce(:dateApplied, a.dateApplied),
+                a.notes = coalesce(:notes, a.notes),
+                a.version = a.version + 1,
+                a.updatedAt = :updatedAt
+            where a.id = :id and a.user.id = :userId
+                and (:version is null or a.version = :version)
+            """)
+    int updateOwned(@Param("id") Long id,
+                    @Param("userId") Long userId,
+                    @Param("version") Long version,
+                    @Param("companyName") String companyName,
+                    @Param("jobTitle") String jobTitle,
+                    @Param("status") ApplicationStatus status,
+                    @Param("dateApplied") LocalDate dateApplied,
+                    @Param("notes") String notes,
+                    @Param("updatedAt") Instant updatedAt);
+
+    /**
+     * Leaves a tombstone for the application that {@link #deleteOwned} is about to remove,
+     * under the same ownership and version conditions. Must run first, in the same transaction.
+     * Native because HQL renders an insert alias H2 rejects; the declared query space keeps
+     * Hibernate from evicting every cache region after it.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_tombstone"))
+    @Query(nativeQuery = true, value = """
+            insert into job_application_tombstone (id, user_id, deleted_at)
+            select a.id, a.user_id, :deletedAt from job_application a
+            where a.id = :id and a.user_id = :userId
+                and (cast(:version as bigint) is null or a.version = :version)
+            """)
+    int insertTombstone(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version,
+                        @Param("deletedAt") Instant deletedAt);
+
+    /** Tombstones for the applications {@link #deleteOwnedIn} is about to remove. */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application_tombstone"))
+    @Query(nativeQuery = true, value = """
+            insert into job_application_tombstone (id, user_id, deleted_at)
+            select a.id, a.user_id, :deletedAt from job_application a
+            where a.id in :ids and a.user_id = :userId
+            """)
+    int insertTombstones(@Param("ids") Collection<Long> ids, @Param("userId") Long userId,
+                         @Param("deletedAt") Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from JobApplication a
+            where a.id = :id and a.user.id = :userId
+                and (:version is null or a.version = :version)
+            """)
+    int deleteOwned(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from JobApplication a where a.id in :ids and a.user.id = :userId")
+    int deleteOwnedIn(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    /**
+     * Deletes up to {@code limit} applications of the user with one statement; the database
+     * cascades to their reminders. Used to purge a deleted account a chunk at a time.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_application"))
+    @Query(nativeQuery = true, value = """
+            delete from job_application
+            where id in (select a.id from job_application a where a.user_id = :userId limit :limit)
+            """)
+    int deleteChunkOfUser(@Param("userId") Long userId, @Param("limit") int limit);
 }
@@ -0,0 +1,38 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.ApplicationCursor;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationIdRange;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.entity.ApplicationStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public interface JobApplicationRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} applications of the given user, newest first,
+     * starting strictly after {@code after} (or from the top when it is null).
+     * Only the requested {@code fields} are selected, plus the id, date and version needed
+     * for the cursor and ETag; the other properties are null.
+     */
+    List<ApplicationResponse> findPage(Long userId, ApplicationFilter filter, ApplicationCursor after, int limit,
+                                       Set<ApplicationField> fields);
+
+    /**
+     * Counts the user's applications matching {@code filter} that are not yet in {@code target}
+     * and returns the id range they span, without loading them.
+     */
+    ApplicationIdRange findStatusChangeRange(Long userId, ApplicationFilter filter, ApplicationStatus target);
+
+    /**
+     * Moves the applications counted by {@link #findStatusChangeRange} whose id lies within
+     * [{@code fromId}, {@code toId}] to {@code target} with one UPDATE, bumping their version
+     * and change-feed stamp. Returns the number of rows changed.
+     */
+    int updateStatus(Long userId, ApplicationFilter filter, ApplicationStatus target,
+                     long fromId, long toId, Instant updatedAt);
+}
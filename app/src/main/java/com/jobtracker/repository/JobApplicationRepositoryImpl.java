@@ -0,0 +1,157 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.dto.ApplicationCursor;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationIdRange;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+class JobApplicationRepositoryImpl implements JobApplicationRepositoryCustom {
+
+    /** Always selected: the keyset cursor needs id and date, the ETag needs the version. */
+    private static final Set<ApplicationField> REQUIRED_FIELDS =
+            EnumSet.of(ApplicationField.ID, ApplicationField.DATE_APPLIED, ApplicationField.VERSION);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ApplicationResponse> findPage(Long userId, ApplicationFilter filter, ApplicationCursor after, int limit,
+                                              Set<ApplicationField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobApplication> app = query.from(JobApplication.class);
+
+        Path<LocalDate> dateApplied = app.get("dateApplied");
+        Path<Long> id = app.get("id");
+
+        // Every filter predicate is matched by one of the (user_id, ..., date_applied DESC, id DESC)
+        // indexes from V2, so a page is a single index range scan regardless of how many rows the user has.
+        List<Predicate> predicates = filterPredicates(cb, app, userId, filter);
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(dateApplied, after.dateApplied()),
+                    cb.and(cb.equal(dateApplied, after.dateApplied()), cb.lessThan(id, after.id()))));
+        }
+
+        Set<ApplicationField> selected = EnumSet.copyOf(REQUIRED_FIELDS);
+        selected.addAll(fields);
+        List<Selection<?>> columns = new ArrayList<>();
+        for (ApplicationField field : selected) {
+            columns.add(app.get(field.property()).alias(field.property()));
+        }
+
+        query.multiselect(columns)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(dateApplied), cb.desc(id));
+
+        // First pages are what the list view reloads after every navigation; deeper pages are read
+        // once while scrolling, so only the former go to the query cache.
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_CACHEABLE, after == null)
+                .setHint(HibernateHints.HINT_CACHE_REGION, JobApplicationRepository.APPLICATIONS_BY_USER_REGION)
+                .getResultList().stream()
+                .map(row -> new ApplicationResponse(
+                        row.get("id", Long.class),
+                        column(row, selected, ApplicationField.COMPANY_NAME, String.class),
+                        column(row, selected, ApplicationField.JOB_TITLE, String.class),
+                        column(row, selected, ApplicationField.STATUS, ApplicationStatus.class),
+                        row.get("dateApplied", LocalDate.class),
+                        column(row, selected, ApplicationField.NOTES, String.class),
+                        row.get("version", Long.class)))
+                .toList();
+    }
+
+    @Override
+    public ApplicationIdRange findStatusChangeRange(Long userId, ApplicationFilter filter, ApplicationStatus target) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<JobApplication> app = query.from(JobApplication.class);
+        Path<Long> id = app.get("id");
+
+        List<Predicate> predicates = filterPredicates(cb, app, userId, filter);
+        predicates.add(notIn(cb, app, target));
+
+        Tuple row = entityManager.createQuery(query
+                        .multiselect(cb.count(id), cb.min(id), cb.max(id))
+                        .where(predicates.toArray(Predicate[]::new)))
+                .getSingleResult();
+        return new ApplicationIdRange(row.get(0, Long.class), row.get(1, Long.class), row.get(2, Long.class));
+    }
+
+    @Override
+    public int updateStatus(Long userId, ApplicationFilter filter, ApplicationStatus target,
+                            long fromId, long toId, Instant updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JobApplication> update = cb.createCriteriaUpdate(JobApplication.class);
+        Root<JobApplication> app = update.from(JobApplication.class);
+        Path<Long> version = app.get("version");
+
+        List<Predicate> predicates = filterPredicates(cb, app, userId, filter);
+        predicates.add(notIn(cb, app, target));
+        predicates.add(cb.between(app.get("id"), fromId, toId));
+
+        // A bulk statement bypasses the persistence context and invalidates the cached
+        // applications itself; the version and change-feed stamp are maintained by hand.
+        return entityManager.createQuery(update
+                        .set(app.<ApplicationStatus>get("status"), target)
+                        .set(version, cb.sum(version, 1L))
+                        .set(app.<Instant>get("updatedAt"), updatedAt)
+                        .where(predicates.toArray(Predicate[]::new)))
+                .executeUpdate();
+    }
+
+    private static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<JobApplication> app, Long userId,
+                                                    ApplicationFilter filter) {
+        Path<LocalDate> dateApplied = app.get("dateApplied");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(app.get("user").get("id"), userId));
+
+        if (filter.status() != null) {
+            predicates.add(cb.equal(app.get("status"), filter.status()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dateApplied, filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(dateApplied, filter.to()));
+        }
+        if (filter.hasCompany()) {
+            predicates.add(cb.equal(cb.lower(app.get("companyName")), filter.company().trim().toLowerCase(Locale.ROOT)));
+        }
+        return predicates;
+    }
+
+    /** Rows already in the target status are left alone, so their version and stamp do not move. */
+    private static Predicate notIn(CriteriaBuilder cb, Root<JobApplication> app, ApplicationStatus status) {
+        Path<ApplicationStatus> current = app.get("status");
+        return cb.or(cb.isNull(current), cb.notEqual(current, status));
+    }
+
+    private static <T> T column(Tuple row, Set<ApplicationField> selected, ApplicationField field, Class<T> type) {
+        return selected.contains(field) ? row.get(field.property(), type) : null;
+    }
+}
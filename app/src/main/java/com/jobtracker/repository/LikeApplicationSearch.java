@@ -0,0 +1,70 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Portable fallback for databases without tsvector support, such as the H2 test
+ * database. Matches substrings with LIKE and ranks by the same field weights as
+ * the Postgres implementation; it cannot use an index, so it is not meant for production.
+ */
+@Repository
+@ConditionalOnProperty(name = "jobtracker.search.mode", havingValue = "like")
+class LikeApplicationSearch implements ApplicationSearch {
+
+    private static final int COMPANY_WEIGHT = 4;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int NOTES_WEIGHT = 1;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobApplication> search(Long userId, List<String> terms, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplication> query = cb.createQuery(JobApplication.class);
+        Root<JobApplication> app = query.from(JobApplication.class);
+
+        Expression<String> company = cb.lower(app.get("companyName"));
+        Expression<String> title = cb.lower(app.get("jobTitle"));
+        Expression<String> notes = cb.lower(cb.coalesce(app.get("notes"), ""));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(app.get("user").get("id"), userId));
+        Expression<Integer> rank = cb.literal(0);
+
+        for (String term : terms) {
+            String pattern = "%" + term + "%";
+            predicates.add(cb.or(cb.like(company, pattern), cb.like(title, pattern), cb.like(notes, pattern)));
+            rank = cb.sum(rank, weight(cb, company, pattern, COMPANY_WEIGHT));
+            rank = cb.sum(rank, weight(cb, title, pattern, TITLE_WEIGHT));
+            rank = cb.sum(rank, weight(cb, notes, pattern, NOTES_WEIGHT));
+        }
+
+        query.select(app)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(rank), cb.desc(app.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static Expression<Integer> weight(CriteriaBuilder cb, Expression<String> field, String pattern, int weight) {
+        return cb.<Integer>selectCase()
+                .when(cb.like(field, pattern), weight)
+                .otherwise(0);
+    }
+}
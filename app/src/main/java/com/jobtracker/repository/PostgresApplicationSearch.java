@@ -0,0 +1,43 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.JobApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Uses the generated {@code search_vector} column and its GIN index from V4.
+ */
+@Repository
+@ConditionalOnProperty(name = "jobtracker.search.mode", havingValue = "postgres", matchIfMissing = true)
+class PostgresApplicationSearch implements ApplicationSearch {
+
+    private static final String SEARCH_SQL = """
+            SELECT a.*
+            FROM job_application a, to_tsquery('simple', :query) q
+            WHERE a.user_id = :userId AND a.search_vector @@ q
+            ORDER BY ts_rank(a.search_vector, q) DESC, a.id DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobApplication> search(Long userId, List<String> terms, int offset, int limit) {
+        // Terms are letters and digits only, so they cannot inject tsquery operators.
+        String query = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+
+        return entityManager.createNativeQuery(SEARCH_SQL, JobApplication.class)
+                .setParameter("query", query)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+    }
+}
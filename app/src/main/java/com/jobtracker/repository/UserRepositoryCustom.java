@@ -0,0 +1,15 @@
+package com.jobtracker.repository;
+
+import com.jobtracker.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Looks the user up by its natural id. Served from the second-level cache when both the
+     * email-to-id resolution and the entity are cached, so repeat logins skip the database.
+     * Expects the normalized (trimmed, lower-case) email.
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,27 @@
+package com.jobtracker.security;
+
+import com.jobtracker.entity.User;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * Principal stored in the security context at login. It carries everything the
+ * request path needs about the caller, so ownership checks and /me never have
+ * to look the user up again.
+ */
+public record AuthenticatedUser(Long id, String email, String userName) implements Principal, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getUserName());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
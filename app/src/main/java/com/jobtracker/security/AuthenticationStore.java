@@ -0,0 +1,15 @@
+package com.jobtracker.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Where a signed-in principal lives between requests: the HTTP session
+ * ({@code jobtracker.auth.mode=session}, the default) or a signed cookie ({@code token}).
+ */
+public interface AuthenticationStore {
+
+    void signIn(AuthenticatedUser user, HttpServletRequest request, HttpServletResponse response);
+
+    void signOut(HttpServletRequest request, HttpServletResponse response);
+}
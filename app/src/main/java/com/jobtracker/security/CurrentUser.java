@@ -0,0 +1,39 @@
+package com.jobtracker.security;
+
+import com.jobtracker.repository.UserRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class CurrentUser {
+
+    private final UserRepository userRepository;
+
+    public CurrentUser(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public AuthenticatedUser get() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Not logged in");
+        }
+
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+
+        // Sessions created before the principal carried the user id only hold the email.
+        return userRepository.findByEmail(auth.getName())
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authenticated user not found"));
+    }
+
+    public Long id() {
+        return get().id();
+    }
+}
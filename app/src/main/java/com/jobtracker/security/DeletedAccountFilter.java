@@ -0,0 +1,38 @@
+package com.jobtracker.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Signs out requests whose principal belongs to a deleted account: the session is
+ * invalidated or the token revoked and cleared, and the request carries on anonymous.
+ */
+public class DeletedAccountFilter extends OncePerRequestFilter {
+
+    private final DeletedAccounts deletedAccounts;
+    private final AuthenticationStore authenticationStore;
+
+    public DeletedAccountFilter(DeletedAccounts deletedAccounts, AuthenticationStore authenticationStore) {
+        this.deletedAccounts = deletedAccounts;
+        this.authenticationStore = authenticationStore;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && deletedAccounts.isDeleted(user.id())) {
+            authenticationStore.signOut(request, response);
+            SecurityContextHolder.clearContext();
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jobtracker.security;
+
+import com.jobtracker.config.AccountDeletionProperties;
+import com.jobtracker.entity.AccountDeletion;
+import com.jobtracker.repository.AccountDeletionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of users who deleted their account within the retention period. Lookups are served
+ * from memory; the account_deletion table is the shared copy that every replica polls, so
+ * sessions and tokens of a deleted account stop working everywhere within the refresh
+ * interval, including after its users row is gone.
+ */
+@Component
+public class DeletedAccounts {
+
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final AccountDeletionProperties properties;
+    private final Map<Long, Instant> deleted = new ConcurrentHashMap<>();
+
+    public DeletedAccounts(AccountDeletionRepository accountDeletionRepository, AccountDeletionProperties properties) {
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.properties = properties;
+    }
+
+    public boolean isDeleted(Long userId) {
+        return deleted.containsKey(userId);
+    }
+
+    public void add(Long userId, Instant requestedAt) {
+        deleted.put(userId, requestedAt);
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.accounts.deleted-refresh:PT10S}")
+    public void refresh() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        for (AccountDeletion deletion : accountDeletionRepository.findByRequestedAtAfter(cutoff)) {
+            deleted.put(deletion.getUserId(), deletion.getRequestedAt());
+        }
+        deleted.values().removeIf(requestedAt -> !requestedAt.isAfter(cutoff));
+    }
+}
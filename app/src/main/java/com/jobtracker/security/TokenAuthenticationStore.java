@@ -0,0 +1,50 @@
+package com.jobtracker.security;
+
+import com.jobtracker.config.TokenProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+
+@Component
+@ConditionalOnProperty(name = "jobtracker.auth.mode", havingValue = "token")
+public class TokenAuthenticationStore implements AuthenticationStore {
+
+    private final TokenService tokenService;
+    private final TokenProperties properties;
+
+    public TokenAuthenticationStore(TokenService tokenService, TokenProperties properties) {
+        this.tokenService = tokenService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void signIn(AuthenticatedUser user, HttpServletRequest request, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(tokenService.issue(user), properties.ttl()).toString());
+    }
+
+    @Override
+    public void signOut(HttpServletRequest request, HttpServletResponse response) {
+        Cookie cookie = WebUtils.getCookie(request, properties.cookieName());
+        if (cookie != null) {
+            tokenService.verify(cookie.getValue()).ifPresent(tokenService::revoke);
+        }
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO).toString());
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(properties.cookieName(), value)
+                .httpOnly(true)
+                .secure(properties.secureCookie())
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.jobtracker.security;
+
+import java.time.Instant;
+
+/**
+ * Verified contents of an auth token.
+ *
+ * @param id        unique token id, used for revocation
+ * @param user      the principal the token was issued to
+ * @param expiresAt end of validity
+ */
+public record TokenClaims(String id, AuthenticatedUser user, Instant expiresAt) {
+}
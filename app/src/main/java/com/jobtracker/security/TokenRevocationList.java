@@ -0,0 +1,50 @@
+package com.jobtracker.security;
+
+import com.jobtracker.entity.RevokedToken;
+import com.jobtracker.repository.RevokedTokenRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids of logged-out tokens that have not expired yet. Lookups are served from memory; the
+ * table is the shared copy that every replica polls, so a logout on one instance takes
+ * effect on the others within the refresh interval.
+ */
+@Component
+@ConditionalOnProperty(name = "jobtracker.auth.mode", havingValue = "token")
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    public void revoke(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.auth.token.revocation-refresh:PT10S}")
+    public void refresh() {
+        Instant now = Instant.now();
+        revokedTokenRepository.findByExpiresAtAfter(now)
+                .forEach(token -> revoked.put(token.getJti(), token.getExpiresAt()));
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.auth.token.revocation-purge:PT1H}")
+    public void purgeExpired() {
+        revokedTokenRepository.deleteExpired(Instant.now());
+    }
+}
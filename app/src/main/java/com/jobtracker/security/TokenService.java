@@ -0,0 +1,151 @@
+package com.jobtracker.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jobtracker.config.TokenProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and verifies HS256-signed JWTs carrying the {@link AuthenticatedUser}, so requests
+ * can be authenticated from the cookie alone without a session or a database lookup.
+ * Every configured key verifies; only the active key signs.
+ */
+@Component
+@ConditionalOnProperty(name = "jobtracker.auth.mode", havingValue = "token")
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TokenRevocationList revocationList;
+    private final Clock clock;
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+
+    @Autowired
+    public TokenService(TokenProperties properties, ObjectMapper objectMapper, TokenRevocationList revocationList) {
+        this(properties, objectMapper, revocationList, Clock.systemUTC());
+    }
+
+    TokenService(TokenProperties properties, ObjectMapper objectMapper, TokenRevocationList revocationList, Clock clock) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.revocationList = revocationList;
+        this.clock = clock;
+
+        properties.keys().forEach((id, secret) -> {
+            byte[] bytes = Base64.getDecoder().decode(secret);
+            if (bytes.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("Token key '" + id + "' must be at least " + MIN_KEY_BYTES + " bytes");
+            }
+            keys.put(id, new SecretKeySpec(bytes, ALGORITHM));
+        });
+        if (properties.activeKey() == null || !keys.containsKey(properties.activeKey())) {
+            throw new IllegalStateException("jobtracker.auth.token.active-key must name one of the configured keys");
+        }
+    }
+
+    public String issue(AuthenticatedUser user) {
+        Instant now = clock.instant();
+
+        ObjectNode header = objectMapper.createObjectNode()
+                .put("alg", "HS256")
+                .put("typ", "JWT")
+                .put("kid", properties.activeKey());
+        ObjectNode payload = objectMapper.createObjectNode()
+                .put("jti", UUID.randomUUID().toString())
+                .put("sub", user.id().toString())
+                .put("email", user.email())
+                .put("name", user.userName())
+                .put("iat", now.getEpochSecond())
+                .put("exp", now.plus(properties.ttl()).getEpochSecond());
+
+        String signingInput = encode(header) + "." + encode(payload);
+        return signingInput + "." + ENCODER.encodeToString(sign(keys.get(properties.activeKey()), signingInput));
+    }
+
+    /**
+     * Returns the claims if the token is well-formed, signed by a known key, unexpired and
+     * not revoked.
+     */
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode header = objectMapper.readTree(DECODER.decode(parts[0]));
+            SecretKeySpec key = keys.get(header.path("kid").asText());
+            if (key == null || !"HS256".equals(header.path("alg").asText())) {
+                return Optional.empty();
+            }
+
+            byte[] expected = sign(key, parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expected, DECODER.decode(parts[2]))) {
+                return Optional.empty();
+            }
+
+            JsonNode payload = objectMapper.readTree(DECODER.decode(parts[1]));
+            Instant expiresAt = Instant.ofEpochSecond(payload.path("exp").asLong());
+            String id = payload.path("jti").asText();
+            if (!expiresAt.isAfter(clock.instant()) || revocationList.isRevoked(id)) {
+                return Optional.empty();
+            }
+
+            AuthenticatedUser user = new AuthenticatedUser(
+                    Long.valueOf(payload.path("sub").asText()),
+                    payload.path("email").asText(),
+                    payload.hasNonNull("name") ? payload.get("name").asText() : null);
+            return Optional.of(new TokenClaims(id, user, expiresAt));
+        } catch (Exception e) {
+            // Malformed base64, JSON or subject: treat like any other invalid token.
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(TokenClaims claims) {
+        revocationList.revoke(claims.id(), claims.expiresAt());
+    }
+
+    private String encode(ObjectNode node) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot serialize token", e);
+        }
+    }
+
+    private static byte[] sign(SecretKeySpec key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign token", e);
+        }
+    }
+}
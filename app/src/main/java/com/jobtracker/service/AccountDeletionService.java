@@ -0,0 +1,112 @@
+package com.jobtracker.service;
+
+import com.jobtracker.config.AccountDeletionProperties;
+import com.jobtracker.dto.AccountDeletionStatus;
+import com.jobtracker.entity.AccountDeletion;
+import com.jobtracker.exception.ResourceNotFoundException;
+import com.jobtracker.repository.AccountDeletionRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.CurrentUser;
+import com.jobtracker.security.DeletedAccounts;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deletes accounts in two steps. The request only records the deletion, which locks the
+ * account out at once; no application is read. The data is then purged in the background
+ * by set-based statements of {@link AccountDeletionProperties#chunkSize()} applications,
+ * each in its own short transaction that also records the progress, and finally the users
+ * row itself, whose foreign keys cascade to everything else the account owned.
+ *
+ * <p>A chunk first locks its deletion with {@code SKIP LOCKED}, so every instance can run
+ * the purge; an account being purged elsewhere is passed over.
+ */
+@Service
+public class AccountDeletionService {
+
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final DeletedAccounts deletedAccounts;
+    private final AccountDeletionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountDeletionService(AccountDeletionRepository accountDeletionRepository,
+                                  JobApplicationRepository jobApplicationRepository,
+                                  UserRepository userRepository, CurrentUser currentUser,
+                                  DeletedAccounts deletedAccounts, AccountDeletionProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.accountDeletionRepository = accountDeletionRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.userRepository = userRepository;
+        this.currentUser = currentUser;
+        this.deletedAccounts = deletedAccounts;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Records the deletion of the current user's account; asking again returns the same deletion. */
+    public AccountDeletionStatus requestDeletion() {
+        Long userId = currentUser.id();
+        AccountDeletion deletion = transactionTemplate.execute(status -> accountDeletionRepository.findByUserId(userId)
+                .orElseGet(() -> accountDeletionRepository.save(new AccountDeletion(UUID.randomUUID(), userId,
+                        Instant.now(), jobApplicationRepository.countByUserId(userId)))));
+        // Effective on this instance as soon as it has committed; other instances pick it up on refresh.
+        deletedAccounts.add(userId, deletion.getRequestedAt());
+        return AccountDeletionStatus.from(deletion);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountDeletionStatus getStatus(UUID id) {
+        return accountDeletionRepository.findById(id)
+                .map(AccountDeletionStatus::from)
+                .orElseThrow(() -> new ResourceNotFoundException("Account deletion " + id + " not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.accounts.purge-interval:PT5S}")
+    public void purgePending() {
+        for (UUID id : accountDeletionRepository.findPendingIds()) {
+            purge(id);
+        }
+    }
+
+    /** Purges the account chunk by chunk until it is gone or another instance holds it. */
+    void purge(UUID id) {
+        // Each chunk commits on its own, so locks and undo never span the whole account.
+        boolean more;
+        do {
+            more = Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeChunk(id)));
+        } while (more);
+    }
+
+    private boolean purgeChunk(UUID id) {
+        Optional<AccountDeletion> claimed = accountDeletionRepository.claimPending(id);
+        if (claimed.isEmpty()) {
+            return false;
+        }
+        AccountDeletion deletion = claimed.get();
+        int deleted = jobApplicationRepository.deleteChunkOfUser(deletion.getUserId(), properties.chunkSize());
+        if (deleted > 0) {
+            deletion.recordDeleted(deleted);
+            return true;
+        }
+        deletion.complete(Instant.now());
+        // Flushes the completion before the delete runs and clears the persistence context after it.
+        userRepository.deleteAccount(deletion.getUserId());
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.accounts.deletion-purge:PT1H}")
+    public void forgetCompleted() {
+        accountDeletionRepository.deleteCompletedBefore(Instant.now().minus(properties.retention()));
+    }
+}
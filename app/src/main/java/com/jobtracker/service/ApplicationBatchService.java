@@ -0,0 +1,201 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.BatchOperation;
+import com.jobtracker.dto.BatchOperationType;
+import com.jobtracker.dto.BatchResult;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.User;
+import com.jobtracker.events.ApplicationChangeEvent;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.CurrentUser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a list of create/update/delete operations in one transaction.
+ *
+ * <p>Items are checked one by one and a rejected item (invalid body, missing or
+ * foreign id) is reported in its result without aborting the others. The work
+ * itself is done in bulk: targets are loaded with one query, creates are flushed
+ * as JDBC insert batches, and deletes run as one set-based statement after another
+ * that leaves their tombstones.
+ */
+@Service
+public class ApplicationBatchService {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApplicationBatchService(JobApplicationRepository jobApplicationRepository, UserRepository userRepository,
+                                   CurrentUser currentUser, Validator validator, ApplicationEventPublisher eventPublisher) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.userRepository = userRepository;
+        this.currentUser = currentUser;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public List<BatchResult> apply(List<BatchOperation> operations) {
+        Long userId = currentUser.id();
+        User owner = userRepository.getReferenceById(userId);
+
+        Set<Long> targetIds = operations.stream()
+                .filter(op -> op != null && op.op() != BatchOperationType.CREATE)
+                .map(BatchOperation::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, JobApplication> owned = targetIds.isEmpty() ? Map.of()
+                : jobApplicationRepository.findAllByIdInAndUserId(targetIds, userId).stream()
+                        .collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+
+        Set<Long> foreign = new HashSet<>();
+        Set<Long> unowned = new HashSet<>(targetIds);
+        unowned.removeAll(owned.keySet());
+        if (!unowned.isEmpty()) {
+            foreign.addAll(jobApplicationRepository.findExistingIds(unowned));
+        }
+
+        BatchResult[] results = new BatchResult[operations.size()];
+        List<JobApplication> creates = new ArrayList<>();
+        Map<Integer, JobApplication> updates = new HashMap<>();
+        List<Integer> createIndexes = new ArrayList<>();
+        Set<Long> deletes = new LinkedHashSet<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperation operation = operations.get(i);
+            if (operation == null || operation.op() == null) {
+                results[i] = BatchResult.failure(i, null, HttpStatus.BAD_REQUEST.value(), null, "op is required");
+                continue;
+            }
+
+            BatchOperationType op = operation.op();
+            Long id = operation.id();
+
+            if (op == BatchOperationType.CREATE) {
+                String error = validate(operation.application());
+                if (error != null) {
+                    results[i] = BatchResult.failure(i, op, HttpStatus.BAD_REQUEST.value(), null, error);
+                    continue;
+                }
+                JobApplication application = operation.application();
+                application.setId(null);
+                if (application.getDateApplied() == null) {
+                    application.setDateApplied(LocalDate.now());
+                }
+                application.setUser(owner);
+                creates.add(application);
+                createIndexes.add(i);
+                continue;
+            }
+
+            if (id == null) {
+                results[i] = BatchResult.failure(i, op, HttpStatus.BAD_REQUEST.value(), null, "id is required");
+                continue;
+            }
+            JobApplication target = owned.get(id);
+            if (target == null || deletes.contains(id)) {
+                results[i] = foreign.contains(id)
+                        ? BatchResult.failure(i, op, HttpStatus.FORBIDDEN.value(), id, "Access denied: You do not own this application")
+                        : BatchResult.failure(i, op, HttpStatus.NOT_FOUND.value(), id, "Application with id " + id + " not found");
+                continue;
+            }
+
+            if (op == BatchOperationType.UPDATE) {
+                String error = validate(operation.application());
+                if (error != null) {
+                    results[i] = BatchResult.failure(i, op, HttpStatus.BAD_REQUEST.value(), id, error);
+                    continue;
+                }
+                // The managed entity is flushed with the rest of the batch as a JDBC update batch.
+                applyChanges(target, operation.application());
+                updates.put(i, target);
+            } else {
+                deletes.add(id);
+                results[i] = BatchResult.success(i, op, HttpStatus.NO_CONTENT.value(), id, null);
+            }
+        }
+
+        // Ids come from the pooled sequence at persist time, so inserts are sent as batches on flush.
+        jobApplicationRepository.saveAll(creates);
+        for (int n = 0; n < creates.size(); n++) {
+            int index = createIndexes.get(n);
+            JobApplication created = creates.get(n);
+            results[index] = BatchResult.success(index, BatchOperationType.CREATE, HttpStatus.CREATED.value(),
+                    created.getId(), ApplicationResponse.from(created));
+        }
+
+        if (!deletes.isEmpty()) {
+            // Flushes pending inserts and updates first, then tombstones and removes all targets
+            // with one statement each.
+            jobApplicationRepository.insertTombstones(deletes, userId, Instant.now());
+            jobApplicationRepository.deleteOwnedIn(deletes, userId);
+        } else {
+            jobApplicationRepository.flush();
+        }
+
+        // Reported after the flush so the responses carry the incremented versions.
+        updates.forEach((index, target) -> results[index] = BatchResult.success(
+                index, BatchOperationType.UPDATE, HttpStatus.OK.value(), target.getId(), ApplicationResponse.from(target)));
+
+        // Delivered to open event streams only once the whole batch has committed.
+        for (BatchResult result : results) {
+            if (result.error() != null) {
+                continue;
+            }
+            switch (result.op()) {
+                case CREATE -> eventPublisher.publishEvent(ApplicationChangeEvent.created(userId, result.application()));
+                case UPDATE -> eventPublisher.publishEvent(ApplicationChangeEvent.updated(userId, result.application()));
+                case DELETE -> eventPublisher.publishEvent(ApplicationChangeEvent.deleted(userId, result.id()));
+            }
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private String validate(JobApplication application) {
+        if (application == null) {
+            return "application is required";
+        }
+        Set<ConstraintViolation<JobApplication>> violations = validator.validate(application);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void applyChanges(JobApplication target, JobApplication changes) {
+        if (changes.getCompanyName() != null) target.setCompanyName(changes.getCompanyName());
+        if (changes.getJobTitle() != null) target.setJobTitle(changes.getJobTitle());
+        if (changes.getStatus() != null) target.setStatus(changes.getStatus());
+        if (changes.getDateApplied() != null) target.setDateApplied(changes.getDateApplied());
+        if (changes.getNotes() != null) target.setNotes(changes.getNotes());
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobtracker.service;
+
+import com.jobtracker.audit.AuditAction;
+import com.jobtracker.audit.AuditLog;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationIdRange;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.events.ApplicationChangeEvent;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.security.CurrentUser;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+
+/**
+ * Moves every application of the current user that matches a filter to another status,
+ * without reading a single row into the persistence context.
+ *
+ * <p>One aggregate query counts the matching rows and the id range they span. Up to
+ * {@link #CHUNK_SIZE} rows are then changed by a single UPDATE; larger selections are
+ * split into consecutive id windows sized to hold about {@code CHUNK_SIZE} matches each,
+ * and every window commits in its own short transaction so row locks are never held
+ * across the whole set. Each window that changed rows is audited once it has committed.
+ */
+@Service
+public class ApplicationBulkStatusService {
+
+    static final int CHUNK_SIZE = 5000;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final CurrentUser currentUser;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLog auditLog;
+
+    public ApplicationBulkStatusService(JobApplicationRepository jobApplicationRepository, CurrentUser currentUser,
+                                        PlatformTransactionManager transactionManager,
+                                        ApplicationEventPublisher eventPublisher, AuditLog auditLog) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.currentUser = currentUser;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.auditLog = auditLog;
+    }
+
+    /** Returns the number of applications whose status changed. */
+    public long changeStatus(ApplicationFilter filter, ApplicationStatus target) {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        Long userId = currentUser.id();
+
+        // Read-write so the range is taken on the primary even when a replica is configured.
+        ApplicationIdRange range = transactionTemplate.execute(
+                status -> jobApplicationRepository.findStatusChangeRange(userId, filter, target));
+        if (range.count() == 0) {
+            return 0;
+        }
+
+        long minId = range.minId();
+        long maxId = range.maxId();
+        // Ids come from one sequence shared by all users, so the user's rows are spread over
+        // a wider range than their count; the window is widened to match.
+        long window = range.count() <= CHUNK_SIZE ? maxId - minId + 1
+                : Math.max(1, (maxId - minId + 1) * CHUNK_SIZE / range.count());
+
+        long updated = 0;
+        try {
+            for (long start = minId; start <= maxId; start += window) {
+                long from = start;
+                long to = Math.min(maxId, start + window - 1);
+                int changed = transactionTemplate.execute(status -> jobApplicationRepository.updateStatus(
+                        userId, filter, target, from, to, Instant.now()));
+                if (changed > 0) {
+                    auditLog.record(AuditAction.APPLICATIONS_CHANGED, userId, null,
+                            describe(changed, from, to, filter, target));
+                }
+                updated += changed;
+            }
+        } finally {
+            // Windows commit on their own, so open streams are told even when a later one failed.
+            if (updated > 0) {
+                eventPublisher.publishEvent(ApplicationChangeEvent.resync(userId));
+            }
+        }
+        return updated;
+    }
+
+    /** E.g. {@code status -> Rejected: 5000 in ids 1000-20999, filter status=Applied to=2024-03-31}. */
+    static String describe(int changed, long from, long to, ApplicationFilter filter, ApplicationStatus target) {
+        StringBuilder detail = new StringBuilder("status -> ").append(target)
+                .append(": ").append(changed).append(" in ids ").append(from).append('-').append(to)
+                .append(", filter");
+        int length = detail.length();
+        if (filter.status() != null) {
+            detail.append(" status=").append(filter.status());
+        }
+        if (filter.from() != null) {
+            detail.append(" from=").append(filter.from());
+        }
+        if (filter.to() != null) {
+            detail.append(" to=").append(filter.to());
+        }
+        if (filter.hasCompany()) {
+            detail.append(" company=").append(filter.company().strip());
+        }
+        if (detail.length() == length) {
+            detail.append(" none");
+        }
+        return detail.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package com.jobtracker.service;
+
+import com.jobtracker.config.ChangeFeedProperties;
+import com.jobtracker.dto.ApplicationChange;
+import com.jobtracker.dto.ApplicationChanges;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.ChangeCursor;
+import com.jobtracker.entity.ApplicationTombstone;
+import com.jobtracker.repository.ApplicationTombstoneRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.security.CurrentUser;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Change feed over a user's applications. Live rows are ordered by (updatedAt, id) and
+ * deletions by (deletedAt, id); both are read as keyset ranges after the cursor and merged.
+ *
+ * <p>Each call only reads up to {@code now - settleDelay}, so a write whose transaction
+ * is still open when the cursor passes its timestamp is not skipped. A client that is up
+ * to date therefore costs two empty index range scans per poll.
+ */
+@Service
+public class ApplicationChangeService {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ApplicationTombstoneRepository tombstoneRepository;
+    private final CurrentUser currentUser;
+    private final ChangeFeedProperties properties;
+
+    public ApplicationChangeService(JobApplicationRepository jobApplicationRepository,
+                                    ApplicationTombstoneRepository tombstoneRepository,
+                                    CurrentUser currentUser, ChangeFeedProperties properties) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.currentUser = currentUser;
+        this.properties = properties;
+    }
+
+    /**
+     * Changes after {@code since}; without a cursor the feed starts from the beginning and
+     * returns every live application.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationChanges getChanges(String since) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        ChangeCursor after = ChangeCursor.ORIGIN;
+        if (since != null && !since.isBlank()) {
+            try {
+                after = ChangeCursor.decode(since);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+            if (after.readUntil().isBefore(now.minus(properties.tombstoneRetention()))) {
+                throw new ResponseStatusException(HttpStatus.GONE,
+                        "Cursor is older than the change history; sync again without 'since'");
+            }
+        }
+
+        Instant until = now.minus(properties.settleDelay());
+        if (!until.isAfter(after.changedAt())) {
+            return new ApplicationChanges(List.of(), List.of(), after.encode(), false);
+        }
+
+        Long userId = currentUser.id();
+        int pageSize = properties.pageSize();
+        // One extra row from each side tells whether the merged page was cut short.
+        List<ApplicationChange> changed = jobApplicationRepository.findChanges(
+                userId, after.changedAt(), after.id(), until, Limit.of(pageSize + 1));
+        List<ApplicationTombstone> deleted = tombstoneRepository.findChanges(
+                userId, after.changedAt(), after.id(), until, Limit.of(pageSize + 1));
+
+        List<ApplicationResponse> changedPage = new ArrayList<>();
+        List<Long> deletedPage = new ArrayList<>();
+        int c = 0;
+        int d = 0;
+        Instant lastAt = null;
+        long lastId = 0;
+        while (changedPage.size() + deletedPage.size() < pageSize && (c < changed.size() || d < deleted.size())) {
+            boolean takeChanged = d == deleted.size() || (c < changed.size()
+                    && precedes(changed.get(c).updatedAt(), changed.get(c).id(),
+                                deleted.get(d).getDeletedAt(), deleted.get(d).getId()));
+            if (takeChanged) {
+                ApplicationChange change = changed.get(c++);
+                changedPage.add(change.toResponse());
+                lastAt = change.updatedAt();
+                lastId = change.id();
+            } else {
+                ApplicationTombstone tombstone = deleted.get(d++);
+                deletedPage.add(tombstone.getId());
+                lastAt = tombstone.getDeletedAt();
+                lastId = tombstone.getId();
+            }
+        }
+
+        boolean hasMore = c < changed.size() || d < deleted.size();
+        ChangeCursor next = hasMore ? new ChangeCursor(lastAt, lastId, until) : ChangeCursor.until(until);
+        return new ApplicationChanges(changedPage, deletedPage, next.encode(), hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${jobtracker.changes.tombstone-purge:PT1H}")
+    public void purgeTombstones() {
+        tombstoneRepository.deleteOlderThan(Instant.now().minus(properties.tombstoneRetention()));
+    }
+
+    private static boolean precedes(Instant at, long id, Instant otherAt, long otherId) {
+        int byTime = at.compareTo(otherAt);
+        return byTime < 0 || byTime == 0 && id < otherId;
+    }
+}
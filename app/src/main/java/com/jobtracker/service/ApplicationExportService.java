@@ -0,0 +1,117 @@
+package com.jobtracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jobtracker.csv.CsvWriter;
+import com.jobtracker.dto.ApplicationExportRow;
+import com.jobtracker.dto.ExportFormat;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.security.CurrentUser;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams a user's full application history straight from a database cursor to the
+ * response. Memory use is bounded by the JDBC fetch size and the writer buffer, not
+ * by the number of rows.
+ */
+@Service
+public class ApplicationExportService {
+
+    static final String[] CSV_HEADER = {"id", "companyName", "jobTitle", "status", "dateApplied", "notes"};
+
+    /** Rows written between explicit flushes, so the client sees progress on long exports. */
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final CurrentUser currentUser;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter rowWriter;
+
+    public ApplicationExportService(JobApplicationRepository jobApplicationRepository, CurrentUser currentUser,
+                                    PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.currentUser = currentUser;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(ApplicationExportRow.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Returns a body that writes the current user's applications in the given format.
+     * The user is resolved here, on the request thread; the body itself runs later on
+     * the MVC async executor where the security context is not available.
+     */
+    public StreamingResponseBody export(ExportFormat format) {
+        Long userId = currentUser.id();
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ApplicationExportRow> rows = jobApplicationRepository.streamExportRows(userId)) {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(rows.iterator(), out);
+                } else {
+                    writeNdjson(rows.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeCsv(Iterator<ApplicationExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRecord((Object[]) CSV_HEADER);
+        csv.flush();
+
+        int written = 0;
+        while (rows.hasNext()) {
+            ApplicationExportRow row = rows.next();
+            csv.writeRecord(row.id(), asText(row.companyName()), asText(row.jobTitle()), row.status(),
+                    row.dateApplied(), asText(row.notes()));
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                csv.flush();
+            }
+        }
+        csv.flush();
+    }
+
+    /**
+     * Prefixes user-entered text that a spreadsheet would evaluate as a formula with {@code '},
+     * so opening the export runs nothing a user typed into a field.
+     */
+    static String asText(String value) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    private void writeNdjson(Iterator<ApplicationExportRow> rows, OutputStream out) throws IOException {
+        int written = 0;
+        while (rows.hasNext()) {
+            rowWriter.writeValue(out, rows.next());
+            out.write('\n');
+            if (++written % FLUSH_EVERY_ROWS == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,220 @@
+package com.jobtracker.service;
+
+import com.jobtracker.audit.AuditAction;
+import com.jobtracker.audit.AuditLog;
+import com.jobtracker.csv.CsvFormatException;
+import com.jobtracker.csv.CsvReader;
+import com.jobtracker.dto.ImportError;
+import com.jobtracker.dto.ImportReport;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.User;
+import com.jobtracker.events.ApplicationChangeEvent;
+import com.jobtracker.security.CurrentUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports applications from a CSV stream, typically a spreadsheet export or a file
+ * produced by {@link ApplicationExportService}.
+ *
+ * <p>The input is parsed record by record and valid rows are written in chunks of
+ * {@link #CHUNK_SIZE}, each in its own short transaction that is flushed as JDBC
+ * batches and then cleared. Neither the file nor the inserted entities are ever held
+ * in memory as a whole, and no connection is held while waiting on a slow upload.
+ * Each chunk is audited once it has committed.
+ */
+@Service
+public class ApplicationImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_RECORD_LENGTH = 10_000;
+
+    private static final String COMPANY_NAME = "companyname";
+    private static final String JOB_TITLE = "jobtitle";
+    private static final String STATUS = "status";
+    private static final String DATE_APPLIED = "dateapplied";
+    private static final String NOTES = "notes";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CurrentUser currentUser;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLog auditLog;
+
+    public ApplicationImportService(CurrentUser currentUser, Validator validator, PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher, AuditLog auditLog) {
+        this.currentUser = currentUser;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.auditLog = auditLog;
+    }
+
+    public ImportReport importCsv(InputStream body) throws IOException {
+        Long userId = currentUser.id();
+        CsvReader reader = new CsvReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), MAX_RECORD_LENGTH);
+
+        long imported = 0;
+        try {
+            Map<String, Integer> columns = readHeader(reader);
+
+            List<ImportError> errors = new ArrayList<>();
+            List<JobApplication> chunk = new ArrayList<>(CHUNK_SIZE);
+            long rejected = 0;
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                JobApplication application = new JobApplication();
+                String error = populate(application, record, columns);
+                if (error == null) {
+                    error = validate(application);
+                }
+
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ImportError(reader.recordLine(), error));
+                    }
+                    continue;
+                }
+
+                chunk.add(application);
+                if (chunk.size() == CHUNK_SIZE) {
+                    imported += writeChunk(chunk, userId);
+                }
+            }
+            imported += writeChunk(chunk, userId);
+
+            return new ImportReport(imported, rejected, errors, rejected > errors.size());
+        } catch (CsvFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } finally {
+            // Chunks commit on their own, so open streams are told even when a later chunk failed.
+            if (imported > 0) {
+                eventPublisher.publishEvent(ApplicationChangeEvent.resync(userId));
+            }
+        }
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip().replace("\uFEFF", "").replace("_", "").toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+
+        if (!columns.containsKey(COMPANY_NAME) || !columns.containsKey(JOB_TITLE)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain companyName and jobTitle columns");
+        }
+        return columns;
+    }
+
+    private String populate(JobApplication application, List<String> record, Map<String, Integer> columns) {
+        application.setCompanyName(column(record, columns, COMPANY_NAME));
+        application.setJobTitle(column(record, columns, JOB_TITLE));
+        application.setNotes(column(record, columns, NOTES));
+
+        String status = column(record, columns, STATUS);
+        if (status != null) {
+            ApplicationStatus parsed = parseStatus(status);
+            if (parsed == null) {
+                return "status: Unknown status '" + status + "'";
+            }
+            application.setStatus(parsed);
+        }
+
+        // Same default as a single create: a missing date means applied today.
+        String dateApplied = column(record, columns, DATE_APPLIED);
+        try {
+            application.setDateApplied(dateApplied != null ? LocalDate.parse(dateApplied) : LocalDate.now());
+        } catch (DateTimeParseException e) {
+            return "dateApplied: Expected an ISO date (yyyy-MM-dd) but got '" + dateApplied + "'";
+        }
+        return null;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static ApplicationStatus parseStatus(String value) {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            if (status.name().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        return null;
+    }
+
+    private String validate(JobApplication application) {
+        Set<ConstraintViolation<JobApplication>> violations = validator.validate(application);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private int writeChunk(List<JobApplication> chunk, Long userId) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int written = chunk.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            User owner = entityManager.getReference(User.class, userId);
+            for (JobApplication application : chunk) {
+                application.setUser(owner);
+                entityManager.persist(application);
+            }
+            // Send the chunk as JDBC batches and drop it from the persistence context
+            // even when running inside a caller's longer transaction.
+            entityManager.flush();
+            entityManager.clear();
+        });
+        auditLog.record(AuditAction.APPLICATIONS_CHANGED, userId, null, "import: " + written + " in ids "
+                + chunk.getFirst().getId() + "-" + chunk.getLast().getId());
+        chunk.clear();
+        return written;
+    }
+}
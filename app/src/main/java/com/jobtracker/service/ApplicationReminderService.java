@@ -0,0 +1,122 @@
+package com.jobtracker.service;
+
+import com.jobtracker.config.ReminderProperties;
+import com.jobtracker.dto.DueApplication;
+import com.jobtracker.dto.ReminderResponse;
+import com.jobtracker.entity.ApplicationReminder;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.exception.ResourceNotFoundException;
+import com.jobtracker.repository.ApplicationReminderRepository;
+import com.jobtracker.security.CurrentUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a follow-up reminder for every application that has stayed in Applied or Interview
+ * for longer than {@link ReminderProperties#staleAfter()}.
+ *
+ * <p>The scan walks the due applications of each status in (date_applied, id) order, one
+ * chunk per short transaction: lock the chunk, insert its reminders as JDBC batches, and
+ * mark the applications as reminded for their status so no later scan reads them again.
+ * Chunks are claimed with {@code FOR UPDATE SKIP LOCKED}, so every instance can run the scan
+ * at the same time; each skips what another holds, and the predicate of the claim no longer
+ * matches a row once its chunk has committed.
+ */
+@Service
+public class ApplicationReminderService {
+
+    static final List<ApplicationStatus> REMINDED_STATUSES = List.of(ApplicationStatus.Applied, ApplicationStatus.Interview);
+    static final int MAX_LISTED = 100;
+
+    /** Keyset position before any application. */
+    private static final LocalDate ORIGIN = LocalDate.of(1, 1, 1);
+
+    private final ApplicationReminderRepository reminderRepository;
+    private final CurrentUser currentUser;
+    private final ReminderProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter written;
+
+    public ApplicationReminderService(ApplicationReminderRepository reminderRepository, CurrentUser currentUser,
+                                      ReminderProperties properties, PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.reminderRepository = reminderRepository;
+        this.currentUser = currentUser;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.written = Counter.builder("jobtracker.reminders.written")
+                .description("Follow-up reminders written by the reminder scan")
+                .register(meterRegistry);
+    }
+
+    /** Returns the number of reminders written. */
+    @Scheduled(fixedDelayString = "${jobtracker.reminders.scan-interval:PT15M}")
+    public int scan() {
+        Instant now = Instant.now();
+        Instant untouchedSince = now.minus(properties.staleAfter());
+        LocalDate appliedBefore = LocalDate.now().minusDays(properties.staleAfter().toDays());
+
+        int total = 0;
+        for (ApplicationStatus status : REMINDED_STATUSES) {
+            LocalDate afterDate = ORIGIN;
+            long afterId = 0;
+            List<DueApplication> chunk;
+            do {
+                LocalDate fromDate = afterDate;
+                long fromId = afterId;
+                chunk = transactionTemplate.execute(tx -> remindChunk(status, appliedBefore, untouchedSince,
+                        fromDate, fromId, now));
+                if (!chunk.isEmpty()) {
+                    DueApplication last = chunk.get(chunk.size() - 1);
+                    afterDate = last.dateApplied();
+                    afterId = last.id();
+                    total += chunk.size();
+                    written.increment(chunk.size());
+                }
+            } while (chunk.size() == properties.chunkSize());
+        }
+        return total;
+    }
+
+    private List<DueApplication> remindChunk(ApplicationStatus status, LocalDate appliedBefore, Instant untouchedSince,
+                                             LocalDate afterDate, long afterId, Instant now) {
+        List<DueApplication> due = reminderRepository.claimDue(status.name(), appliedBefore, untouchedSince,
+                afterDate, afterId, properties.chunkSize());
+        if (due.isEmpty()) {
+            return due;
+        }
+        List<ApplicationReminder> reminders = new ArrayList<>(due.size());
+        List<Long> ids = new ArrayList<>(due.size());
+        for (DueApplication application : due) {
+            reminders.add(new ApplicationReminder(application.id(), application.userId(), status, now));
+            ids.add(application.id());
+        }
+        // Ids come from the pooled sequence, so the inserts go out as JDBC batches on flush.
+        reminderRepository.saveAll(reminders);
+        reminderRepository.markReminded(ids);
+        return due;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReminderResponse> getForCurrentUser() {
+        return reminderRepository.findResponsesByUserId(currentUser.id(), Limit.of(MAX_LISTED));
+    }
+
+    @Transactional
+    public void dismiss(Long id) {
+        if (reminderRepository.deleteOwned(id, currentUser.id()) == 0) {
+            throw new ResourceNotFoundException("Reminder with id " + id + " not found");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobtracker.service;
+
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.SearchPage;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.repository.ApplicationSearch;
+import com.jobtracker.security.CurrentUser;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class ApplicationSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /** Ranked results are paged by offset, so deep pages get progressively more expensive. */
+    private static final int MAX_OFFSET = 10_000;
+    private static final int MAX_TERMS = 8;
+    private static final int MAX_TERM_LENGTH = 50;
+
+    private final ApplicationSearch applicationSearch;
+    private final CurrentUser currentUser;
+
+    public ApplicationSearchService(ApplicationSearch applicationSearch, CurrentUser currentUser) {
+        this.applicationSearch = applicationSearch;
+        this.currentUser = currentUser;
+    }
+
+    public SearchPage search(String q, int page, int size) {
+        List<String> terms = tokenize(q);
+        if (terms.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query must contain at least one letter or digit");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        long offset = (long) pageNumber * pageSize;
+        if (offset > MAX_OFFSET) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page is too deep; refine the search instead");
+        }
+
+        // One extra row tells us whether there is a next page.
+        List<JobApplication> rows = applicationSearch.search(currentUser.id(), terms, (int) offset, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicationResponse> items = (hasMore ? rows.subList(0, pageSize) : rows).stream()
+                .map(ApplicationResponse::from)
+                .toList();
+        return new SearchPage(items, pageNumber, pageSize, hasMore);
+    }
+
+    static List<String> tokenize(String q) {
+        if (q == null) {
+            return List.of();
+        }
+        return Arrays.stream(q.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+}
@@ -1,71 +1,212 @@
 package com.jobtracker.service;
 
+import com.jobtracker.dto.ApplicationCursor;
+import com.jobtracker.dto.ApplicationField;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationPage;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.ApplicationStats;
+import com.jobtracker.dto.StatusCount;
+import com.jobtracker.entity.ApplicationStatus;
 import com.jobtracker.entity.JobApplication;
-import com.jobtracker.entity.User;
+import com.jobtracker.events.ApplicationChangeEvent;
 import com.jobtracker.exception.ResourceNotFoundException;
 import com.jobtracker.repository.JobApplicationRepository;
 import com.jobtracker.repository.UserRepository;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.jobtracker.security.CurrentUser;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Every public operation is timed as {@code jobtracker.applications} with {@code class} and
+ * {@code method} tags; calls between overloads of the same bean are counted once.
+ */
 @Service
+@Timed(value = "jobtracker.applications", histogram = true)
 public class JobApplicationService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final JobApplicationRepository jobApplicationRepository;
     private final UserRepository userRepository;
+    private final CurrentUser currentUser;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JobApplicationService(JobApplicationRepository jobApplicationRepository, UserRepository userRepository) {
+    public JobApplicationService(JobApplicationRepository jobApplicationRepository, UserRepository userRepository,
+                                 CurrentUser currentUser, ApplicationEventPublisher eventPublisher) {
         this.jobApplicationRepository = jobApplicationRepository;
         this.userRepository = userRepository;
+        this.currentUser = currentUser;
+        this.eventPublisher = eventPublisher;
     }
 
-    private User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authenticated user not found"));
+    @Transactional(readOnly = true)
+    public ApplicationPage getPageForCurrentUser(ApplicationFilter filter, String cursor, int limit) {
+        return getPageForCurrentUser(filter, cursor, limit, ApplicationField.parse(null));
     }
 
-    public List<JobApplication> getAllForCurrentUser() {
-        return jobApplicationRepository.findByUser(getCurrentUser());
+    @Transactional(readOnly = true)
+    public ApplicationPage getPageForCurrentUser(ApplicationFilter filter, String cursor, int limit,
+                                                 Set<ApplicationField> fields) {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+
+        ApplicationCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = ApplicationCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query.
+        List<ApplicationResponse> rows = jobApplicationRepository.findPage(currentUser.id(), filter, after, pageSize + 1, fields);
+        if (rows.size() <= pageSize) {
+            return new ApplicationPage(rows, null);
+        }
+
+        List<ApplicationResponse> items = rows.subList(0, pageSize);
+        ApplicationResponse last = items.get(pageSize - 1);
+        return new ApplicationPage(items, new ApplicationCursor(last.dateApplied(), last.id()).encode());
     }
 
-    public JobApplication getById(Long id) {
-        JobApplication app = jobApplicationRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Application with id " + id + " not found"));
+    /**
+     * Dashboard figures computed by two GROUP BY queries; no entity is loaded.
+     * Applications without a status count towards the total only.
+     */
+    @Transactional(readOnly = true)
+    public ApplicationStats getStatsForCurrentUser() {
+        Long userId = currentUser.id();
 
-        if (!app.getUser().getId().equals(getCurrentUser().getId())) {
-            throw new SecurityException("Access denied: You do not own this application");
+        Map<ApplicationStatus, Long> byStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long total = 0;
+        for (StatusCount row : jobApplicationRepository.countByStatus(userId)) {
+            total += row.count();
+            if (row.status() != null) {
+                byStatus.put(row.status(), row.count());
+            }
         }
 
-        return app;
+        List<ApplicationStats.MonthlyTotal> byMonth = jobApplicationRepository.countByMonth(userId).stream()
+                .map(row -> new ApplicationStats.MonthlyTotal(YearMonth.of(row.year(), row.month()).toString(), row.count()))
+                .toList();
+
+        long offered = byStatus.get(ApplicationStatus.Offer);
+        long interviewed = byStatus.get(ApplicationStatus.Interview) + offered;
+        ApplicationStats.Funnel funnel = new ApplicationStats.Funnel(
+                total, interviewed, offered, rate(interviewed, total), rate(offered, interviewed));
+
+        return new ApplicationStats(total, byStatus, byMonth, funnel);
     }
 
-    public JobApplication create(JobApplication application) {
+    private static double rate(long part, long whole) {
+        return whole == 0 ? 0.0 : (double) part / whole;
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationResponse getById(Long id) {
+        return jobApplicationRepository.findResponseByIdAndUserId(id, currentUser.id())
+                .orElseThrow(() -> missingOrForeign(id));
+    }
+
+    public ApplicationResponse create(JobApplication application) {
+        // Ids are assigned by the sequence; a client-supplied one must never address an existing row.
+        application.setId(null);
         if (application.getDateApplied() == null) {
             application.setDateApplied(LocalDate.now());
         }
-        application.setUser(getCurrentUser());
-        return jobApplicationRepository.save(application);
+        // A reference is enough to set the foreign key; the user row itself is never read.
+        Long userId = currentUser.id();
+        application.setUser(userRepository.getReferenceById(userId));
+        ApplicationResponse created = ApplicationResponse.from(jobApplicationRepository.save(application));
+        eventPublisher.publishEvent(ApplicationChangeEvent.created(userId, created));
+        return created;
+    }
+
+    // Transactional itself: the self-call below bypasses the proxy of the versioned overload.
+    @Transactional
+    public ApplicationResponse update(Long id, JobApplication updatedApplication) {
+        return update(id, updatedApplication, null);
     }
 
-    public JobApplication update(Long id, JobApplication updatedApplication) {
-        JobApplication app = getById(id);
-        app.setCompanyName(updatedApplication.getCompanyName() != null ? updatedApplication.getCompanyName() : app.getCompanyName());
-        app.setJobTitle(updatedApplication.getJobTitle() != null ? updatedApplication.getJobTitle() : app.getJobTitle());
-        app.setStatus(updatedApplication.getStatus() != null ? updatedApplication.getStatus() : app.getStatus());
-        app.setDateApplied(updatedApplication.getDateApplied() != null ? updatedApplication.getDateApplied() : app.getDateApplied());
-        app.setNotes(updatedApplication.getNotes() != null ? updatedApplication.getNotes() : app.getNotes());
+    /**
+     * Updates the application if it is owned by the current user and, when
+     * {@code expectedVersion} is given, still at that version.
+     */
+    @Transactional
+    public ApplicationResponse update(Long id, JobApplication updatedApplication, Long expectedVersion) {
+        Long userId = currentUser.id();
+        int updated = jobApplicationRepository.updateOwned(id, userId, expectedVersion,
+                updatedApplication.getCompanyName(),
+                updatedApplication.getJobTitle(),
+                updatedApplication.getStatus(),
+                updatedApplication.getDateApplied(),
+                updatedApplication.getNotes(),
+                Instant.now());
+        if (updated == 0) {
+            throw missingForeignOrConflict(id, userId, expectedVersion);
+        }
 
-        return jobApplicationRepository.save(app);
+        ApplicationResponse application = jobApplicationRepository.findResponseByIdAndUserId(id, userId)
+                .orElseThrow(() -> missingOrForeign(id));
+        eventPublisher.publishEvent(ApplicationChangeEvent.updated(userId, application));
+        return application;
     }
 
+    @Transactional
     public void delete(Long id) {
-        JobApplication app = getById(id);
-        jobApplicationRepository.delete(app);
+        delete(id, null);
+    }
+
+    /**
+     * Deletes the application under the same conditions as {@link #update(Long, JobApplication, Long)}
+     * and leaves a tombstone for the change feed; either both happen or neither does.
+     */
+    @Transactional
+    public void delete(Long id, Long expectedVersion) {
+        Long userId = currentUser.id();
+        jobApplicationRepository.insertTombstone(id, userId, expectedVersion, Instant.now());
+        if (jobApplicationRepository.deleteOwned(id, userId, expectedVersion) == 0) {
+            throw missingForeignOrConflict(id, userId, expectedVersion);
+        }
+        eventPublisher.publishEvent(ApplicationChangeEvent.deleted(userId, id));
+    }
+
+    private RuntimeException missingForeignOrConflict(Long id, Long userId, Long expectedVersion) {
+        if (expectedVersion != null && jobApplicationRepository.existsByIdAndUserId(id, userId)) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Application was modified by another request");
+        }
+        return missingOrForeign(id);
+    }
+
+    /**
+     * Owner-scoped statements cannot tell a missing row from someone else's row.
+     * Only on that failure path do we pay for a second query to pick 404 or 403.
+     */
+    private RuntimeException missingOrForeign(Long id) {
+        if (jobApplicationRepository.existsById(id)) {
+            return new SecurityException("Access denied: You do not own this application");
+        }
+        return new ResourceNotFoundException("Application with id " + id + " not found");
     }
 }
@@ -2,7 +2,8 @@ package com.jobtracker.service;
 
 import com.jobtracker.entity.User;
 import com.jobtracker.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.jobtracker.security.DeletedAccounts;
+import com.jobtracker.security.PasswordHasher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
@@ -10,11 +11,15 @@ import org.springframework.http.HttpStatus;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final DeletedAccounts deletedAccounts;
+    /** Compared against for unknown emails; made lazily so it has the configured cost. */
+    private volatile String unknownUserHash;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher, DeletedAccounts deletedAccounts) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.deletedAccounts = deletedAccounts;
     }
 
     public User register(String email, String rawPassword, String userName) {
@@ -26,12 +31,48 @@ public class UserService {
 
         User user = new User();
         user.setEmail(normalizedEmail);
-        user.setPasswordHash(passwordEncoder.encode(rawPassword));
+        user.setPasswordHash(passwordHasher.encode(rawPassword));
         user.setUserName(userName);
 
         return userRepository.save(user);
     }
 
+    /**
+     * Returns the user if the password matches and the account has not been deleted,
+     * otherwise {@code null}. A hash made with a lower cost than configured is replaced
+     * while the plain password is at hand. No transaction is held while hashing. An unknown
+     * email is checked against a dummy hash, so it costs the same time and hashing slot as a
+     * wrong password and does not reveal which emails are registered.
+     */
+    public User authenticate(String email, String rawPassword) {
+        User user = findByEmail(email);
+        if (user == null) {
+            passwordHasher.matches(rawPassword, unknownUserHash());
+            return null;
+        }
+        if (!passwordHasher.matches(rawPassword, user.getPasswordHash())
+                || deletedAccounts.isDeleted(user.getId())) {
+            return null;
+        }
+
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            String upgraded = passwordHasher.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), upgraded);
+            user.setPasswordHash(upgraded);
+        }
+        return user;
+    }
+
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            // A race only hashes twice; any of the results will do.
+            hash = passwordHasher.encode("unknown-user-" + System.nanoTime());
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
+
     public User findByEmail(String email) {
         return userRepository.findByEmail(email.trim().toLowerCase()).orElse(null);
     }
@@ -0,0 +1,44 @@
+package com.jobtracker.sql;
+
+/**
+ * Statement count and JDBC time of the current request. Recording is bound to the request
+ * thread, so work handed to other threads (async exports, the BCrypt pool) is not included.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private SqlStatistics() {
+    }
+
+    /** Starts recording on the calling thread, replacing any earlier recording. */
+    static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /** Adds one executed statement (or batch) to the current recording, if there is one. */
+    static void record(long elapsedNanos) {
+        SqlStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+            statistics.nanos += elapsedNanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
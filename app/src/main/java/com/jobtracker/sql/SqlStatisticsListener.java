@@ -0,0 +1,24 @@
+package com.jobtracker.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/** Feeds every statement executed through the proxied data source into {@link SqlStatistics}. */
+public class SqlStatisticsListener implements QueryExecutionListener {
+
+    private static final String STARTED = SqlStatisticsListener.class.getName() + ".started";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        SqlStatistics.record(started == null ? 0 : System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,27 @@
+-- Audit trail of application changes and logins, written in batches by a background writer.
+-- Append-only: no foreign keys, so entries outlive the applications and accounts they name,
+-- and a trigger rejects every UPDATE, DELETE and TRUNCATE.
+CREATE TABLE audit_event (
+    id BIGSERIAL PRIMARY KEY,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    user_id BIGINT,
+    action VARCHAR(32) NOT NULL,
+    target_id BIGINT,
+    detail VARCHAR(255)
+);
+
+CREATE INDEX idx_audit_event_user_occurred ON audit_event (user_id, occurred_at);
+
+CREATE FUNCTION audit_event_append_only() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'audit_event is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER audit_event_no_change
+    BEFORE UPDATE OR DELETE ON audit_event
+    FOR EACH ROW EXECUTE FUNCTION audit_event_append_only();
+
+CREATE TRIGGER audit_event_no_truncate
+    BEFORE TRUNCATE ON audit_event
+    FOR EACH STATEMENT EXECUTE FUNCTION audit_event_append_only();
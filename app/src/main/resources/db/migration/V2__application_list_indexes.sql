@@ -0,0 +1,16 @@
+-- Keyset pagination orders by (date_applied DESC, id DESC), which needs a non-null sort key.
+UPDATE job_application SET date_applied = CURRENT_DATE WHERE date_applied IS NULL;
+ALTER TABLE job_application ALTER COLUMN date_applied SET NOT NULL;
+
+-- The unfiltered listing and the date-range filter share this index; it also supersedes
+-- the plain user_id index from V1, which is a prefix of it.
+DROP INDEX idx_job_application_user_id;
+CREATE INDEX idx_job_application_user_date
+    ON job_application (user_id, date_applied DESC, id DESC);
+
+CREATE INDEX idx_job_application_user_status_date
+    ON job_application (user_id, status, date_applied DESC, id DESC);
+
+-- Company filter is a case-insensitive exact match on lower(company_name).
+CREATE INDEX idx_job_application_user_company_date
+    ON job_application (user_id, LOWER(company_name), date_applied DESC, id DESC);
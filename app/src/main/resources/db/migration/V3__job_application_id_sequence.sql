@@ -0,0 +1,11 @@
+-- IDENTITY ids force Hibernate to insert one row at a time. A sequence with a pooled
+-- optimizer lets it pre-allocate ids in blocks of 50 and send inserts as JDBC batches.
+CREATE SEQUENCE job_application_seq INCREMENT BY 50;
+
+-- The pooled optimizer treats each value returned by nextval as the top of a block,
+-- so the first value must sit one full block above the existing ids.
+SELECT setval('job_application_seq', COALESCE((SELECT MAX(id) FROM job_application), 0) + 50, false);
+
+-- Nothing may keep drawing from the old serial sequence, or ids would collide with the pool.
+ALTER TABLE job_application ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE job_application_id_seq;
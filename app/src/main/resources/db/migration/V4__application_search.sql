@@ -0,0 +1,10 @@
+-- Full-text search over company, title and notes. The 'simple' configuration does no
+-- stemming, which suits company names and lets queries use prefix matching.
+ALTER TABLE job_application ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', COALESCE(company_name, '')), 'A') ||
+        setweight(to_tsvector('simple', COALESCE(job_title, '')), 'B') ||
+        setweight(to_tsvector('simple', COALESCE(notes, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_job_application_search ON job_application USING GIN (search_vector);
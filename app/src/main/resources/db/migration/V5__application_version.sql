@@ -0,0 +1,2 @@
+-- Optimistic-locking version, also used to derive ETags for application resources.
+ALTER TABLE job_application ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+CREATE TABLE revoked_token (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token(expires_at);
@@ -0,0 +1,24 @@
+-- Change feed for GET /api/applications/changes: every write stamps updated_at, and a
+-- delete leaves a tombstone, so a client can ask for what changed after a known position.
+ALTER TABLE job_application ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
+
+-- Keyset order of the feed is (updated_at, id) within one user.
+CREATE INDEX idx_job_application_user_updated
+    ON job_application (user_id, updated_at, id);
+
+CREATE TABLE job_application_tombstone (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_job_application_tombstone_user
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_job_application_tombstone_user_deleted
+    ON job_application_tombstone (user_id, deleted_at, id);
+
+-- Purging tombstones past the retention window scans by age alone.
+CREATE INDEX idx_job_application_tombstone_deleted
+    ON job_application_tombstone (deleted_at);
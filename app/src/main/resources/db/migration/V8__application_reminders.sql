@@ -0,0 +1,37 @@
+-- Follow-up reminders for applications left in Applied or Interview, written by
+-- ApplicationReminderService and shown to their owner until dismissed.
+CREATE SEQUENCE application_reminder_seq INCREMENT BY 50;
+
+CREATE TABLE application_reminder (
+    id BIGINT PRIMARY KEY,
+    application_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT fk_application_reminder_application
+        FOREIGN KEY (application_id)
+        REFERENCES job_application(id)
+        ON DELETE CASCADE,
+    CONSTRAINT fk_application_reminder_user
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_application_reminder_user_created
+    ON application_reminder (user_id, created_at DESC, id DESC);
+
+-- Cascading deletes from job_application look reminders up by application.
+CREATE INDEX idx_application_reminder_application
+    ON application_reminder (application_id);
+
+-- The status a reminder was last written for. Moving the application to another status
+-- makes it eligible again.
+ALTER TABLE job_application ADD COLUMN reminder_status VARCHAR(100);
+
+-- The scan walks (status, date_applied, id) up to the cutoff date. The partial predicate
+-- keeps out finished applications and those already reminded for their current status,
+-- so a scan reads the rows that are due and nothing else, however large the table grows.
+CREATE INDEX idx_job_application_reminder_due
+    ON job_application (status, date_applied, id)
+    WHERE status IN ('Applied', 'Interview') AND reminder_status IS DISTINCT FROM status;
@@ -0,0 +1,15 @@
+-- Accounts their owners have deleted. The row is written straight away and the account's
+-- data is purged in the background. It deliberately has no foreign key: it outlives the
+-- users row, so sessions and tokens issued before the deletion keep being rejected until
+-- they would have expired anyway.
+CREATE TABLE account_deletion (
+    id UUID PRIMARY KEY,
+    user_id BIGINT NOT NULL UNIQUE,
+    requested_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    total_applications BIGINT NOT NULL,
+    deleted_applications BIGINT NOT NULL DEFAULT 0,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Every instance polls for recent deletions to reject their sessions.
+CREATE INDEX idx_account_deletion_requested ON account_deletion (requested_at);
@@ -0,0 +1,141 @@
+package com.jobtracker.audit;
+
+import com.jobtracker.config.AuditProperties;
+import com.jobtracker.config.AuditProperties.Backpressure;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource dataSource = mock(DataSource.class);
+    /** The writer's first connection waits for this, so the buffer fills up behind it. */
+    private final CountDownLatch database = new CountDownLatch(1);
+    private final AtomicInteger batches = new AtomicInteger();
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.supportsBatchUpdates()).thenReturn(true);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        when(statement.executeBatch()).thenAnswer(invocation -> {
+            batches.incrementAndGet();
+            return new int[0];
+        });
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            database.await(10, TimeUnit.SECONDS);
+            return connection;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        database.countDown();
+        auditLog.shutdown();
+    }
+
+    private void start(Backpressure backpressure, Duration blockTimeout) {
+        auditLog = new AuditLog(new AuditProperties(4, 2, backpressure, blockTimeout, 0.5, 10,
+                Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofSeconds(5)),
+                dataSource, mock(PlatformTransactionManager.class), meterRegistry);
+        auditLog.start();
+        // The writer takes the first event and stalls on the database with it.
+        auditLog.record(AuditAction.LOGIN_SUCCEEDED, 1L, null, null);
+        await().atMost(Duration.ofSeconds(5)).until(() -> gauge("jobtracker.audit.pending") == 0);
+    }
+
+    @Test
+    void drop_countsEventsThatFindTheBufferFull_withoutWaiting() {
+        start(Backpressure.DROP, Duration.ZERO);
+
+        long started = System.nanoTime();
+        for (long id = 1; id <= 10; id++) {
+            auditLog.record(AuditAction.APPLICATION_CREATED, 1L, id, null);
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(500));
+        assertThat(dropped("full")).isEqualTo(6);
+        assertThat(gauge("jobtracker.audit.lag")).isPositive();
+
+        database.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> written() == 5);
+        // One batch for the stalled event, then the four buffered ones in batches of two.
+        assertThat(batches.get()).isEqualTo(3);
+        assertThat(gauge("jobtracker.audit.lag")).isZero();
+    }
+
+    @Test
+    void block_waitsForTheWriterToMakeRoom() {
+        start(Backpressure.BLOCK, Duration.ofSeconds(5));
+        for (long id = 1; id <= 4; id++) {
+            auditLog.record(AuditAction.APPLICATION_CREATED, 1L, id, null);
+        }
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+                () -> auditLog.record(AuditAction.APPLICATION_CREATED, 1L, 5L, null));
+        await().during(Duration.ofMillis(200)).atMost(Duration.ofSeconds(1)).until(() -> !blocked.isDone());
+
+        database.countDown();
+        blocked.join();
+        await().atMost(Duration.ofSeconds(5)).until(() -> written() == 6);
+        assertThat(dropped("full")).isZero();
+    }
+
+    @Test
+    void block_dropsTheEventOnceTheTimeoutHasPassed() {
+        start(Backpressure.BLOCK, Duration.ofMillis(50));
+        for (long id = 1; id <= 5; id++) {
+            auditLog.record(AuditAction.APPLICATION_CREATED, 1L, id, null);
+        }
+
+        assertThat(dropped("full")).isEqualTo(1);
+    }
+
+    @Test
+    void shutdown_writesOutTheBuffer() throws Exception {
+        start(Backpressure.DROP, Duration.ZERO);
+        for (long id = 1; id <= 4; id++) {
+            auditLog.record(AuditAction.APPLICATION_DELETED, 1L, id, null);
+        }
+
+        database.countDown();
+        auditLog.shutdown();
+
+        assertThat(written()).isEqualTo(5);
+    }
+
+    private double written() {
+        return meterRegistry.counter("jobtracker.audit.written").count();
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.counter("jobtracker.audit.dropped", "reason", reason).count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
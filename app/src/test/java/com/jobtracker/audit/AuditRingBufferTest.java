@@ -0,0 +1,88 @@
+package com.jobtracker.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    void offer_refusesWhenFull_andSlotsAreReusedInOrderAfterPolling() {
+        AuditRingBuffer buffer = new AuditRingBuffer(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (long i = 0; i < 4; i++) {
+            assertThat(buffer.offer(entry(i))).isTrue();
+        }
+        assertThat(buffer.offer(entry(4))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll().targetId()).isEqualTo(0);
+        assertThat(buffer.offer(entry(4))).isTrue();
+        for (long i = 1; i <= 4; i++) {
+            assertThat(buffer.peek().targetId()).isEqualTo(i);
+            assertThat(buffer.poll().targetId()).isEqualTo(i);
+        }
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducers_deliverEveryEntryExactlyOnce() throws Exception {
+        AuditRingBuffer buffer = new AuditRingBuffer(64);
+        int producers = 4;
+        int perProducer = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = base; i < base + perProducer; i++) {
+                    while (!buffer.offer(entry(i))) {
+                        // Yield rather than spin, so the consumer gets the CPU on a single core.
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        start.countDown();
+        Set<Long> seen = new HashSet<>();
+        long[] lastByProducer = new long[producers];
+        Arrays.fill(lastByProducer, -1);
+        while (seen.size() < producers * perProducer) {
+            AuditEntry entry = buffer.poll();
+            if (entry == null) {
+                Thread.yield();
+                continue;
+            }
+            assertThat(seen.add(entry.targetId())).isTrue();
+            // Each producer's entries come out in the order it offered them.
+            int producer = (int) (entry.targetId() / perProducer);
+            assertThat(entry.targetId()).isGreaterThan(lastByProducer[producer]);
+            lastByProducer[producer] = entry.targetId();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(buffer.poll()).isNull();
+    }
+
+    private static AuditEntry entry(long targetId) {
+        return new AuditEntry(Instant.EPOCH, 1L, AuditAction.APPLICATION_UPDATED, targetId, null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.service.AccountDeletionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// A database of its own: the deleted ids stay locked out for the life of the context, and the
+// shared schema restarts its ids whenever another context recreates it.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:accounts;DB_CLOSE_DELAY=-1;MODE=PostgreSQL")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AccountControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    AccountDeletionService accountDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private void register(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(email, "password123", "Owner"))))
+                .andExpect(status().isOk());
+    }
+
+    private MvcResult login(String email) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andReturn();
+    }
+
+    private MockHttpSession session(String email) throws Exception {
+        MvcResult result = login(email);
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return (MockHttpSession) result.getRequest().getSession(false);
+    }
+
+    private void createApplication(MockHttpSession owner, String company) throws Exception {
+        mockMvc.perform(post("/api/applications")
+                        .session(owner)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("companyName", company, "jobTitle", "Engineer"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void delete_locksTheAccountOutAtOnce_andPurgesItsDataInTheBackground() throws Exception {
+        register("owner@example.com");
+        register("other@example.com");
+        MockHttpSession laptop = session("owner@example.com");
+        MockHttpSession phone = session("owner@example.com");
+        MockHttpSession other = session("other@example.com");
+        for (int i = 0; i < 3; i++) {
+            createApplication(laptop, "Company " + i);
+        }
+        createApplication(other, "Acme");
+
+        MvcResult deleted = mockMvc.perform(delete("/api/account").session(laptop))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.totalApplications").value(3))
+                .andReturn();
+        assertThat(laptop.isInvalid()).isTrue();
+        String location = deleted.getResponse().getHeader(HttpHeaders.LOCATION);
+
+        // Every other session of the account is signed out on its next request.
+        mockMvc.perform(get("/api/applications").session(phone))
+                .andExpect(status().isForbidden());
+        assertThat(phone.isInvalid()).isTrue();
+        assertThat(login("owner@example.com").getResponse().getStatus()).isEqualTo(401);
+
+        accountDeletionService.purgePending();
+
+        JsonNode status = objectMapper.readTree(mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertThat(status.get("state").asText()).isEqualTo("COMPLETED");
+        assertThat(status.get("deletedApplications").asLong()).isEqualTo(3);
+        assertThat(userRepository.existsByEmail("owner@example.com")).isFalse();
+        assertThat(jobApplicationRepository.count()).isEqualTo(1);
+
+        // The address is free again once the account is gone.
+        register("owner@example.com");
+        mockMvc.perform(get("/api/applications").session(session("owner@example.com")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    void deletionStatus_returns404ForUnknownIds() throws Exception {
+        mockMvc.perform(get("/api/account/deletions/00000000-0000-0000-0000-000000000000"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,112 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.events.ApplicationEventHub;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationEventStreamTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    ApplicationEventHub applicationEventHub;
+
+    @BeforeEach
+    void clearDb() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private MockHttpSession registerAndLogin(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(email, "password123", "Owner"))))
+                .andExpect(status().isOk());
+        return (MockHttpSession) mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession(false);
+    }
+
+    private MockHttpServletResponse openStream(MockHttpSession session) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/applications/events").session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        // Headers go out with the first frame, which the sender pool writes.
+        await().atMost(Duration.ofSeconds(5)).until(() -> response.getContentAsString().startsWith(":connected"));
+        assertThat(response.getHeader("X-Accel-Buffering")).isEqualTo("no");
+        return response;
+    }
+
+    @Test
+    void events_pushCommittedChangesToEveryStreamOfTheOwnerOnly() throws Exception {
+        MockHttpSession owner = registerAndLogin("owner@example.com");
+        MockHttpSession other = registerAndLogin("other@example.com");
+        MockHttpServletResponse firstTab = openStream(owner);
+        MockHttpServletResponse secondTab = openStream(owner);
+        MockHttpServletResponse otherUser = openStream(other);
+
+        String created = mockMvc.perform(post("/api/applications").session(owner)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("companyName", "Acme", "jobTitle", "Engineer"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        mockMvc.perform(delete("/api/applications/" + id).session(owner))
+                .andExpect(status().isNoContent());
+
+        for (MockHttpServletResponse tab : new MockHttpServletResponse[] {firstTab, secondTab}) {
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(tab.getContentAsString())
+                    .contains("event:created\ndata:{\"id\":" + id + ",\"companyName\":\"Acme\"")
+                    .contains("event:deleted\ndata:{\"id\":" + id + "}"));
+        }
+        assertThat(otherUser.getContentAsString()).doesNotContain("event:");
+    }
+
+    @Test
+    void events_rejectsRequestsWithoutASession() throws Exception {
+        int before = applicationEventHub.connectionCount();
+
+        mockMvc.perform(get("/api/applications/events"))
+                .andExpect(status().isForbidden());
+
+        assertThat(applicationEventHub.connectionCount()).isEqualTo(before);
+    }
+}
@@ -0,0 +1,146 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.entity.AuditEvent;
+import com.jobtracker.repository.AuditEventRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuditTrailTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    AuditEventRepository auditEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loginsAndApplicationChanges_areWrittenToTheAuditTrail() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("audit@example.com", "password123", "Audit"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("audit@example.com", "wrong-password"))))
+                .andExpect(status().isUnauthorized());
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("audit@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) login.getRequest().getSession(false);
+        Long userId = objectMapper.readTree(login.getResponse().getContentAsString()).get("id").asLong();
+
+        String created = mockMvc.perform(post("/api/applications")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("companyName", "Acme", "jobTitle", "Engineer"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Long applicationId = objectMapper.readTree(created).get("id").asLong();
+        mockMvc.perform(put("/api/applications/" + applicationId)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("companyName", "Acme", "jobTitle", "Engineer", "status", "Interview"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/applications/" + applicationId).session(session))
+                .andExpect(status().is2xxSuccessful());
+
+        // Written behind the requests; give the writer a few polls.
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> auditEventRepository.findByUserIdOrderById(userId).size() == 4);
+        List<AuditEvent> events = auditEventRepository.findByUserIdOrderById(userId);
+        assertThat(events)
+                .extracting(AuditEvent::getAction, AuditEvent::getTargetId)
+                .containsExactly(
+                        tuple("LOGIN_SUCCEEDED", null),
+                        tuple("APPLICATION_CREATED", applicationId),
+                        tuple("APPLICATION_UPDATED", applicationId),
+                        tuple("APPLICATION_DELETED", applicationId));
+        assertThat(auditEventRepository.findByActionOrderById("LOGIN_FAILED"))
+                .extracting(AuditEvent::getDetail)
+                .contains("audit@example.com");
+    }
+
+    @Test
+    void importsAndBulkStatusChanges_areAuditedWithWhatTheyChanged() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("bulk@example.com", "password123", "Bulk"))))
+                .andExpect(status().isOk());
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("bulk@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        MockHttpSession session = (MockHttpSession) login.getRequest().getSession(false);
+        Long userId = objectMapper.readTree(login.getResponse().getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(post("/api/applications/import")
+                        .session(session)
+                        .contentType("text/csv")
+                        .content("companyName,jobTitle,status\nAcme,Engineer,Applied\nGlobex,Analyst,Applied\n"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/applications/bulk-status")
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("company", "acme", "targetStatus", "Rejected"))))
+                .andExpect(status().isOk());
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> auditEventRepository.findByUserIdOrderById(userId).size() == 3);
+        List<AuditEvent> events = auditEventRepository.findByUserIdOrderById(userId);
+        assertThat(events)
+                .extracting(AuditEvent::getAction, AuditEvent::getTargetId)
+                .containsExactly(
+                        tuple("LOGIN_SUCCEEDED", null),
+                        tuple("APPLICATIONS_CHANGED", null),
+                        tuple("APPLICATIONS_CHANGED", null));
+        assertThat(events.get(1).getDetail()).matches("import: 2 in ids \\d+-\\d+");
+        assertThat(events.get(2).getDetail()).matches("status -> Rejected: 1 in ids \\d+-\\d+, filter company=acme");
+    }
+}
@@ -14,6 +14,9 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -80,4 +83,37 @@ class AuthControllerTest {
             )
             .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void me_isAnsweredFromSessionPrincipal_withoutUserLookup() throws Exception {
+        RegisterRequest req = new RegisterRequest("me@example.com", "password123", "Mia");
+        mockMvc.perform(
+                post("/api/auth/register")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(req))
+            )
+            .andExpect(status().isOk());
+
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(
+                post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new LoginRequest("me@example.com", "password123")))
+            )
+            .andExpect(status().isOk())
+            .andReturn().getRequest().getSession(false);
+
+        // With the row gone, /me can only succeed if it never queries the users table.
+        userRepository.deleteAll();
+
+        mockMvc.perform(get("/api/auth/me").session(session))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("me@example.com"))
+            .andExpect(jsonPath("$.userName").value("Mia"));
+    }
+
+    @Test
+    void me_returns401_whenNotLoggedIn() throws Exception {
+        mockMvc.perform(get("/api/auth/me"))
+            .andExpect(status().isUnauthorized());
+    }
 }
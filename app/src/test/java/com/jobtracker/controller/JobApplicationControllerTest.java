@@ -0,0 +1,674 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.sql.SqlBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JobApplicationControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+        session = registerAndLogin("owner@example.com");
+    }
+
+    private MockHttpSession registerAndLogin(String email) throws Exception {
+        mockMvc.perform(
+                post("/api/auth/register")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RegisterRequest(email, "password123", "Owner")))
+            )
+            .andExpect(status().isOk());
+
+        return (MockHttpSession) mockMvc.perform(
+                post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123")))
+            )
+            .andExpect(status().isOk())
+            .andReturn().getRequest().getSession(false);
+    }
+
+    private long createApplication(MockHttpSession owner, String company, String status, String dateApplied) throws Exception {
+        Map<String, String> body = Map.of(
+                "companyName", company,
+                "jobTitle", "Engineer",
+                "status", status,
+                "dateApplied", dateApplied);
+
+        String response = mockMvc.perform(
+                post("/api/applications")
+                    .session(owner)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(body))
+            )
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url).session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void crudEndpoints_stayWithinStatementBudgets() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            createApplication(session, "Company " + i, "Applied", "2024-01-0" + (i + 1));
+        }
+        String body = objectMapper.writeValueAsString(Map.of(
+                "companyName", "Acme", "jobTitle", "Engineer", "status", "Applied", "dateApplied", "2024-01-01"));
+
+        String created = mockMvc.perform(post("/api/applications").session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1))
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1));
+        mockMvc.perform(get("/api/applications/" + id).session(session))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1));
+        mockMvc.perform(put("/api/applications/" + id).session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(2));
+        mockMvc.perform(delete("/api/applications/" + id).session(session))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlBudget.atMost(2));
+        String cursor = getJson("/api/applications/changes").get("cursor").asText();
+        mockMvc.perform(get("/api/applications/changes").param("since", cursor).session(session))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(2));
+        mockMvc.perform(get("/api/auth/me").session(session))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(0));
+    }
+
+    @Test
+    void list_walksPagesNewestFirst_usingNextCursor() throws Exception {
+        createApplication(session, "Acme", "Applied", "2024-01-01");
+        createApplication(session, "Globex", "Interview", "2024-02-01");
+        createApplication(session, "Initech", "Applied", "2024-02-01");
+        createApplication(session, "Umbrella", "Offer", "2024-03-01");
+
+        JsonNode first = getJson("/api/applications?limit=3");
+        assertThat(first.get("items")).hasSize(3);
+        assertThat(first.get("items").get(0).get("companyName").asText()).isEqualTo("Umbrella");
+        assertThat(first.get("nextCursor").isNull()).isFalse();
+
+        JsonNode second = getJson("/api/applications?limit=3&cursor=" + first.get("nextCursor").asText());
+        assertThat(second.get("items")).hasSize(1);
+        assertThat(second.get("items").get(0).get("companyName").asText()).isEqualTo("Acme");
+        assertThat(second.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void list_appliesStatusDateAndCompanyFilters() throws Exception {
+        createApplication(session, "Acme", "Applied", "2024-01-01");
+        createApplication(session, "Acme", "Rejected", "2024-02-01");
+        createApplication(session, "Globex", "Applied", "2024-03-01");
+
+        assertThat(getJson("/api/applications?status=Applied").get("items")).hasSize(2);
+        assertThat(getJson("/api/applications?company=acme").get("items")).hasSize(2);
+        assertThat(getJson("/api/applications?from=2024-01-15&to=2024-02-15").get("items")).hasSize(1);
+        assertThat(getJson("/api/applications?status=Applied&company=ACME").get("items")).hasSize(1);
+    }
+
+    @Test
+    void list_onlyReturnsCurrentUsersApplications() throws Exception {
+        MockHttpSession other = registerAndLogin("other@example.com");
+        createApplication(other, "Acme", "Applied", "2024-01-01");
+        createApplication(session, "Globex", "Applied", "2024-01-01");
+
+        JsonNode page = getJson("/api/applications");
+        assertThat(page.get("items")).hasSize(1);
+        assertThat(page.get("items").get(0).get("companyName").asText()).isEqualTo("Globex");
+    }
+
+    @Test
+    void list_returns400_forInvalidCursorOrStatus() throws Exception {
+        mockMvc.perform(get("/api/applications?cursor=not-a-cursor").session(session))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/applications?status=Ghosted").session(session))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void update_changesOnlyProvidedFields_andReturnsCurrentState() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        Map<String, String> body = Map.of("companyName", "Acme", "jobTitle", "Staff Engineer", "status", "Interview");
+        mockMvc.perform(
+                put("/api/applications/" + id)
+                    .session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(body))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.jobTitle").value("Staff Engineer"))
+            .andExpect(jsonPath("$.status").value("Interview"))
+            .andExpect(jsonPath("$.dateApplied").value("2024-01-01"));
+    }
+
+    @Test
+    void list_andGet_returnOnlyRequestedFields() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        JsonNode item = getJson("/api/applications?fields=companyName,status").get("items").get(0);
+        assertThat(item.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "companyName", "status");
+        assertThat(item.get("companyName").asText()).isEqualTo("Acme");
+
+        JsonNode single = getJson("/api/applications/" + id + "?fields=notes");
+        assertThat(single.fieldNames()).toIterable().containsExactlyInAnyOrder("id", "notes");
+
+        JsonNode full = getJson("/api/applications/" + id);
+        assertThat(full.fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("id", "companyName", "jobTitle", "status", "dateApplied", "notes", "version");
+
+        mockMvc.perform(get("/api/applications?fields=companyName,password").session(session))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void get_returnsVersionETag_andAnswersMatchingIfNoneMatchWith304() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        String etag = mockMvc.perform(get("/api/applications/" + id).session(session))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"0\""))
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/applications/" + id).session(session).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void etag_dependsOnTheFieldSelection() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        String full = mockMvc.perform(get("/api/applications/" + id).session(session))
+            .andReturn().getResponse().getHeader("ETag");
+        String partial = mockMvc.perform(get("/api/applications/" + id + "?fields=status,companyName").session(session))
+            .andReturn().getResponse().getHeader("ETag");
+        assertThat(partial).isNotEqualTo(full);
+
+        mockMvc.perform(get("/api/applications/" + id + "?fields=notes").session(session).header("If-None-Match", full))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(id));
+        mockMvc.perform(get("/api/applications/" + id + "?fields=notes").session(session).header("If-None-Match", partial))
+            .andExpect(status().isOk());
+        // The same selection in another order is the same representation.
+        mockMvc.perform(get("/api/applications/" + id + "?fields=companyName,status").session(session).header("If-None-Match", partial))
+            .andExpect(status().isNotModified());
+
+        String listFull = mockMvc.perform(get("/api/applications").session(session))
+            .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/applications?fields=companyName").session(session).header("If-None-Match", listFull))
+            .andExpect(status().isOk());
+
+        // A selection's tag still names the version it was read at.
+        mockMvc.perform(put("/api/applications/" + id).session(session)
+                    .header("If-Match", partial)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("companyName", "Acme", "jobTitle", "Lead"))))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void get_exposesETagToTheCrossOriginFrontend() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        mockMvc.perform(get("/api/applications/" + id).session(session).header("Origin", "http://localhost:3000"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Access-Control-Expose-Headers", containsString("ETag")));
+    }
+
+    @Test
+    void list_etagChangesWhenARowOnThePageIsUpdated() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        String etag = mockMvc.perform(get("/api/applications").session(session))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+        mockMvc.perform(get("/api/applications").session(session).header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/applications/" + id).session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("companyName", "Acme", "jobTitle", "Lead"))))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"1\""));
+
+        mockMvc.perform(get("/api/applications").session(session).header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)));
+    }
+
+    @Test
+    void updateAndDelete_return412_whenIfMatchIsStale() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+        String body = objectMapper.writeValueAsString(Map.of("companyName", "Acme", "jobTitle", "Lead"));
+
+        mockMvc.perform(put("/api/applications/" + id).session(session).header("If-Match", "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk());
+        mockMvc.perform(put("/api/applications/" + id).session(session).header("If-Match", "\"0\"")
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/applications/" + id).session(session).header("If-Match", "W/\"1\"")
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/applications/" + id).session(session).header("If-Match", "\"0\""))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(delete("/api/applications/" + id).session(session).header("If-Match", "\"1\""))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/applications/" + id).session(session).header("If-Match", "\"1\""))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getUpdateDelete_return403ForForeignRow_and404ForMissingRow() throws Exception {
+        MockHttpSession other = registerAndLogin("other@example.com");
+        long foreignId = createApplication(other, "Acme", "Applied", "2024-01-01");
+        String body = objectMapper.writeValueAsString(Map.of("companyName", "Hijacked", "jobTitle", "Engineer"));
+
+        mockMvc.perform(get("/api/applications/" + foreignId).session(session))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/applications/" + foreignId).session(session)
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/applications/" + foreignId).session(session))
+            .andExpect(status().isForbidden());
+
+        long missingId = foreignId + 1000;
+        mockMvc.perform(get("/api/applications/" + missingId).session(session))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/applications/" + missingId).session(session)
+                    .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/applications/" + missingId).session(session))
+            .andExpect(status().isNotFound());
+
+        assertThat(jobApplicationRepository.findById(foreignId)).get()
+            .extracting("companyName").isEqualTo("Acme");
+    }
+
+    @Test
+    void delete_removesOwnedApplication() throws Exception {
+        long id = createApplication(session, "Acme", "Applied", "2024-01-01");
+
+        mockMvc.perform(delete("/api/applications/" + id).session(session))
+            .andExpect(status().isNoContent());
+
+        assertThat(jobApplicationRepository.existsById(id)).isFalse();
+    }
+
+    @Test
+    void changes_returnOnlyWhatChangedSinceCursor_includingDeletions() throws Exception {
+        MockHttpSession other = registerAndLogin("other@example.com");
+        long kept = createApplication(session, "Acme", "Applied", "2024-01-01");
+        long removed = createApplication(session, "Globex", "Applied", "2024-01-02");
+        createApplication(other, "Initech", "Applied", "2024-01-03");
+
+        JsonNode initial = getJson("/api/applications/changes");
+        assertThat(initial.get("changed").findValuesAsText("id"))
+                .containsExactly(String.valueOf(kept), String.valueOf(removed));
+        assertThat(initial.get("deleted")).isEmpty();
+        assertThat(initial.get("hasMore").asBoolean()).isFalse();
+
+        mockMvc.perform(put("/api/applications/" + kept).session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "companyName", "Acme", "jobTitle", "Engineer", "status", "Interview"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/applications/" + removed).session(session))
+                .andExpect(status().isNoContent());
+        long added = createApplication(session, "Umbrella", "Applied", "2024-01-04");
+
+        JsonNode delta = getJson("/api/applications/changes?since=" + initial.get("cursor").asText());
+        assertThat(delta.get("changed").findValuesAsText("id"))
+                .containsExactly(String.valueOf(kept), String.valueOf(added));
+        assertThat(delta.get("changed").get(0).get("status").asText()).isEqualTo("Interview");
+        assertThat(delta.get("deleted").get(0).asLong()).isEqualTo(removed);
+
+        JsonNode steady = getJson("/api/applications/changes?since=" + delta.get("cursor").asText());
+        assertThat(steady.get("changed")).isEmpty();
+        assertThat(steady.get("deleted")).isEmpty();
+
+        mockMvc.perform(get("/api/applications/changes").param("since", "not-a-cursor").session(session))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batch_appliesOperationsAndReportsResultsInRequestOrder() throws Exception {
+        MockHttpSession other = registerAndLogin("other@example.com");
+        long foreignId = createApplication(other, "Acme", "Applied", "2024-01-01");
+        long toUpdate = createApplication(session, "Globex", "Applied", "2024-01-01");
+        long toDelete = createApplication(session, "Initech", "Applied", "2024-01-01");
+
+        List<Map<String, Object>> operations = List.of(
+                Map.of("op", "CREATE", "application", Map.of("companyName", "Umbrella", "jobTitle", "Engineer", "status", "Applied")),
+                Map.of("op", "CREATE", "application", Map.of("companyName", "", "jobTitle", "Engineer")),
+                Map.of("op", "UPDATE", "id", toUpdate, "application", Map.of("companyName", "Globex", "jobTitle", "Engineer", "status", "Offer")),
+                Map.of("op", "UPDATE", "id", foreignId, "application", Map.of("companyName", "Mine", "jobTitle", "Engineer")),
+                Map.of("op", "DELETE", "id", toDelete),
+                Map.of("op", "DELETE", "id", toDelete));
+
+        mockMvc.perform(
+                post("/api/applications/batch")
+                    .session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("operations", operations)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results.length()").value(6))
+            .andExpect(jsonPath("$.results[0].status").value(201))
+            .andExpect(jsonPath("$.results[0].application.dateApplied").isNotEmpty())
+            .andExpect(jsonPath("$.results[1].status").value(400))
+            .andExpect(jsonPath("$.results[2].status").value(200))
+            .andExpect(jsonPath("$.results[2].application.status").value("Offer"))
+            .andExpect(jsonPath("$.results[3].status").value(403))
+            .andExpect(jsonPath("$.results[4].status").value(204))
+            .andExpect(jsonPath("$.results[5].status").value(404));
+
+        assertThat(jobApplicationRepository.existsById(toDelete)).isFalse();
+        assertThat(jobApplicationRepository.findById(toUpdate)).get()
+            .extracting("status").hasToString("Offer");
+        assertThat(jobApplicationRepository.findById(foreignId)).get()
+            .extracting("companyName").isEqualTo("Acme");
+        assertThat(getJson("/api/applications").get("items")).hasSize(2);
+    }
+
+    @Test
+    void bulkStatus_movesOnlyMatchingOwnedApplications_withOneUpdate() throws Exception {
+        MockHttpSession other = registerAndLogin("other@example.com");
+        long foreign = createApplication(other, "Acme", "Applied", "2024-01-01");
+        long stale = createApplication(session, "Acme", "Applied", "2024-01-01");
+        long staleToo = createApplication(session, "Globex", "Applied", "2024-02-01");
+        long recent = createApplication(session, "Acme", "Applied", "2024-06-01");
+        long interviewing = createApplication(session, "Acme", "Interview", "2024-01-01");
+        long versionBefore = getJson("/api/applications/" + stale).get("version").asLong();
+
+        mockMvc.perform(
+                post("/api/applications/bulk-status")
+                    .session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of(
+                            "status", "Applied", "to", "2024-03-31", "targetStatus", "Rejected")))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(2))
+            // The range query and a single UPDATE.
+            .andExpect(SqlBudget.atMost(2));
+
+        JsonNode moved = getJson("/api/applications/" + stale);
+        assertThat(moved.get("status").asText()).isEqualTo("Rejected");
+        assertThat(moved.get("version").asLong()).isGreaterThan(versionBefore);
+        assertThat(getJson("/api/applications/" + staleToo).get("status").asText()).isEqualTo("Rejected");
+        assertThat(getJson("/api/applications/" + recent).get("status").asText()).isEqualTo("Applied");
+        assertThat(getJson("/api/applications/" + interviewing).get("status").asText()).isEqualTo("Interview");
+        assertThat(jobApplicationRepository.findById(foreign)).get()
+            .extracting("status").hasToString("Applied");
+
+        mockMvc.perform(
+                post("/api/applications/bulk-status")
+                    .session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("company", "acme", "targetStatus", "Rejected")))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(
+                post("/api/applications/bulk-status")
+                    .session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("status", "Applied")))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    private String export(String format) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/applications/export?format=" + format).session(session))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"applications." + format + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    void export_streamsCsvWithHeaderAndEscapedFields() throws Exception {
+        createApplication(session, "Acme, Inc.", "Applied", "2024-01-01");
+        createApplication(session, "Globex", "Offer", "2024-02-01");
+
+        String csv = export("csv");
+
+        assertThat(csv.split("\r\n"))
+                .hasSize(3)
+                .startsWith("id,companyName,jobTitle,status,dateApplied,notes");
+        assertThat(csv).contains(",Globex,Engineer,Offer,2024-02-01,\r\n");
+        assertThat(csv).contains(",\"Acme, Inc.\",Engineer,Applied,2024-01-01,\r\n");
+        assertThat(csv.indexOf("Globex")).isLessThan(csv.indexOf("Acme"));
+    }
+
+    @Test
+    void export_prefixesFormulaLikeCsvFields_withAQuote() throws Exception {
+        createApplication(session, "=HYPERLINK(1)", "Applied", "2024-01-01");
+        createApplication(session, "@Globex", "Offer", "2024-02-01");
+        createApplication(session, "-Initech", "Offer", "2024-03-01");
+
+        String csv = export("csv");
+
+        assertThat(csv).contains(",'=HYPERLINK(1),Engineer,Applied,2024-01-01,\r\n");
+        assertThat(csv).contains(",'@Globex,Engineer,Offer,2024-02-01,\r\n");
+        assertThat(csv).contains(",'-Initech,Engineer,Offer,2024-03-01,\r\n");
+        assertThat(export("ndjson")).contains("\"companyName\":\"=HYPERLINK(1)\"");
+    }
+
+    @Test
+    void export_streamsOneJsonObjectPerLine() throws Exception {
+        createApplication(session, "Acme", "Applied", "2024-01-01");
+        createApplication(session, "Globex", "Offer", "2024-02-01");
+        MockHttpSession other = registerAndLogin("other@example.com");
+        createApplication(other, "Initech", "Applied", "2024-01-01");
+
+        String[] lines = export("ndjson").split("\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("companyName").asText()).isEqualTo("Globex");
+        assertThat(objectMapper.readTree(lines[1]).get("dateApplied").asText()).isEqualTo("2024-01-01");
+    }
+
+    @Test
+    void export_returns400_forUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/applications/export?format=xlsx").session(session))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void import_insertsValidRows_andReportsInvalidOnesByLine() throws Exception {
+        String csv = String.join("\r\n",
+                "company_name,job_title,status,date_applied,notes",
+                "Acme,Engineer,applied,2024-01-01,\"multi",
+                "line, quoted \"\"note\"\"\"",
+                ",Engineer,Applied,2024-01-02,",
+                "Globex,Engineer,Ghosted,2024-01-03,",
+                "Initech,Engineer,Offer,03/01/2024,",
+                "Umbrella,Engineer,,,",
+                "");
+
+        mockMvc.perform(
+                post("/api/applications/import")
+                    .session(session)
+                    .contentType("text/csv")
+                    .content(csv)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(3))
+            .andExpect(jsonPath("$.errors[0].line").value(4))
+            .andExpect(jsonPath("$.errors[0].message").value("companyName: Company name is required"))
+            .andExpect(jsonPath("$.errors[1].line").value(5))
+            .andExpect(jsonPath("$.errors[2].line").value(6))
+            .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        JsonNode items = getJson("/api/applications").get("items");
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).get("companyName").asText()).isEqualTo("Umbrella");
+        assertThat(items.get(0).get("dateApplied").asText()).isNotEmpty();
+        assertThat(items.get(1).get("notes").asText()).isEqualTo("multi\r\nline, quoted \"note\"");
+        assertThat(items.get(1).get("status").asText()).isEqualTo("Applied");
+    }
+
+    @Test
+    void import_acceptsOwnExport() throws Exception {
+        createApplication(session, "Acme, Inc.", "Applied", "2024-01-01");
+        createApplication(session, "Globex", "Offer", "2024-02-01");
+        String csv = export("csv");
+
+        mockMvc.perform(
+                post("/api/applications/import")
+                    .session(session)
+                    .contentType("text/csv")
+                    .content(csv)
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(0));
+
+        assertThat(getJson("/api/applications?company=acme, inc.").get("items")).hasSize(2);
+    }
+
+    @Test
+    void import_returns400_whenRequiredColumnsAreMissing() throws Exception {
+        mockMvc.perform(
+                post("/api/applications/import")
+                    .session(session)
+                    .contentType("text/csv")
+                    .content("company,title\r\nAcme,Engineer\r\n")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void stats_returnsCountsPerStatusAndMonth_andFunnelRates() throws Exception {
+        createApplication(session, "Acme", "Applied", "2024-01-05");
+        createApplication(session, "Globex", "Applied", "2024-01-20");
+        createApplication(session, "Initech", "Interview", "2024-02-01");
+        createApplication(session, "Umbrella", "Offer", "2024-03-01");
+        MockHttpSession other = registerAndLogin("other@example.com");
+        createApplication(other, "Hooli", "Offer", "2024-03-01");
+
+        mockMvc.perform(get("/api/applications/stats").session(session))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(4))
+            .andExpect(jsonPath("$.byStatus.Applied").value(2))
+            .andExpect(jsonPath("$.byStatus.Interview").value(1))
+            .andExpect(jsonPath("$.byStatus.Offer").value(1))
+            .andExpect(jsonPath("$.byStatus.Rejected").value(0))
+            .andExpect(jsonPath("$.byMonth[0].month").value("2024-01"))
+            .andExpect(jsonPath("$.byMonth[0].count").value(2))
+            .andExpect(jsonPath("$.byMonth[2].month").value("2024-03"))
+            .andExpect(jsonPath("$.funnel.interviewed").value(2))
+            .andExpect(jsonPath("$.funnel.appliedToInterviewRate").value(0.5))
+            .andExpect(jsonPath("$.funnel.interviewToOfferRate").value(0.5));
+    }
+
+    @Test
+    void search_ranksCompanyMatchesFirst_andIsScopedToCurrentUser() throws Exception {
+        long inNotes = createApplication(session, "Globex", "Applied", "2024-01-01");
+        mockMvc.perform(put("/api/applications/" + inNotes).session(session)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of(
+                            "companyName", "Globex", "jobTitle", "Engineer", "notes", "Referred by someone at Acme"))))
+            .andExpect(status().isOk());
+        long inCompany = createApplication(session, "Acme", "Applied", "2024-01-01");
+        createApplication(session, "Initech", "Applied", "2024-01-01");
+        MockHttpSession other = registerAndLogin("other@example.com");
+        createApplication(other, "Acme", "Applied", "2024-01-01");
+
+        mockMvc.perform(get("/api/applications/search?q=acme").session(session))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].id").value(inCompany))
+            .andExpect(jsonPath("$.items[1].id").value(inNotes))
+            .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(get("/api/applications/search?q=acme&size=1").session(session))
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.hasMore").value(true));
+
+        mockMvc.perform(get("/api/applications/search?q=acme engineer referred").session(session))
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].id").value(inNotes));
+    }
+
+    @Test
+    void search_returns400_withoutSearchableTerms() throws Exception {
+        mockMvc.perform(get("/api/applications/search").param("q", " * ").session(session))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications/search").session(session))
+            .andExpect(status().isBadRequest());
+    }
+}
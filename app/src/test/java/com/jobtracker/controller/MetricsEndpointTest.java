@@ -0,0 +1,107 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// With the second-level cache on, so its meters are exported too.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "L2_CACHE=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @LocalServerPort
+    int serverPort;
+
+    @LocalManagementPort
+    int managementPort;
+
+    private final TestRestTemplate http = new TestRestTemplate();
+
+    @BeforeEach
+    void clearDb() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void prometheus_isPublicOnTheManagementPort_andCoversRequestPathPoolHibernateJvmAndCustomTimers() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("metrics@example.com", "password123", "M"))))
+                .andExpect(status().isOk());
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("metrics@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession();
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk());
+
+        ResponseEntity<String> scrape = http.getForEntity(actuator("prometheus"), String.class);
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(scrape.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/applications\"")
+                .contains("uri=\"/api/auth/login\"")
+                .contains("jobtracker_applications_seconds_count{")
+                .contains("method=\"getPageForCurrentUser\"")
+                .contains("jobtracker_password_hash_seconds_bucket{")
+                .contains("jobtracker_password_wait_seconds_count")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hibernate_statements_total")
+                .contains("jobtracker_sql_statements_count{")
+                .contains("hibernate_second_level_cache_requests_total{")
+                .contains("jvm_gc_memory_allocated_bytes_total");
+    }
+
+    @Test
+    void otherActuatorEndpoints_requireAuthentication() {
+        assertThat(http.getForEntity(actuator("info"), String.class).getStatusCode())
+                .isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    void actuator_isNotServedOnTheApiPort() {
+        assertThat(managementPort).isNotEqualTo(serverPort);
+        ResponseEntity<String> scrape = http.getForEntity(
+                "http://localhost:" + serverPort + "/actuator/prometheus", String.class);
+        assertThat(scrape.getStatusCode().is2xxSuccessful()).isFalse();
+        assertThat(scrape.getBody()).doesNotContain("jvm_");
+    }
+
+    private String actuator(String endpoint) {
+        return "http://localhost:" + managementPort + "/actuator/" + endpoint;
+    }
+}
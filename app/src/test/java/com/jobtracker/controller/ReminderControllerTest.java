@@ -0,0 +1,160 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.ApplicationReminderRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.service.ApplicationReminderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReminderControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    ApplicationReminderRepository reminderRepository;
+
+    @Autowired
+    ApplicationReminderService reminderService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        reminderRepository.deleteAll();
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+        session = registerAndLogin("owner@example.com");
+    }
+
+    private MockHttpSession registerAndLogin(String email) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest(email, "password123", "Owner"))))
+                .andExpect(status().isOk());
+
+        return (MockHttpSession) mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession(false);
+    }
+
+    private long createApplication(MockHttpSession owner, String company, String status, LocalDate dateApplied) throws Exception {
+        String response = mockMvc.perform(post("/api/applications")
+                        .session(owner)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "companyName", company, "jobTitle", "Engineer",
+                                "status", status, "dateApplied", dateApplied.toString()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    /** Pretends nothing has been modified for a month. */
+    private void ageEverything() {
+        jdbcTemplate.update("update job_application set updated_at = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(30))));
+    }
+
+    private JsonNode reminders() throws Exception {
+        String body = mockMvc.perform(get("/api/reminders").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void scan_remindsOwnersOfStaleApplicationsOncePerStatus() throws Exception {
+        LocalDate monthAgo = LocalDate.now().minusDays(30);
+        long applied = createApplication(session, "Acme", "Applied", monthAgo);
+        long interviewing = createApplication(session, "Globex", "Interview", monthAgo);
+        createApplication(session, "Initech", "Offer", monthAgo);
+        createApplication(session, "Umbrella", "Applied", LocalDate.now().minusDays(2));
+        createApplication(registerAndLogin("other@example.com"), "Hooli", "Applied", monthAgo);
+        ageEverything();
+
+        assertThat(reminderService.scan()).isEqualTo(3);
+
+        JsonNode reminders = reminders();
+        assertThat(reminders).hasSize(2);
+        assertThat(reminders.findValuesAsText("applicationId"))
+                .containsExactlyInAnyOrder(String.valueOf(applied), String.valueOf(interviewing));
+        assertThat(reminders.findValuesAsText("companyName")).containsExactlyInAnyOrder("Acme", "Globex");
+
+        // Already reminded for their current status.
+        assertThat(reminderService.scan()).isZero();
+
+        // Recently modified applications are not stale, whatever their application date.
+        mockMvc.perform(put("/api/applications/" + applied)
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "companyName", "Acme", "jobTitle", "Engineer", "status", "Interview"))))
+                .andExpect(status().isOk());
+        assertThat(reminderService.scan()).isZero();
+
+        // A new status makes the application eligible again once it has gone stale.
+        ageEverything();
+        assertThat(reminderService.scan()).isEqualTo(1);
+        assertThat(reminders()).hasSize(3);
+    }
+
+    @Test
+    void dismiss_removesOnlyTheOwnersReminder() throws Exception {
+        createApplication(session, "Acme", "Applied", LocalDate.now().minusDays(30));
+        ageEverything();
+        reminderService.scan();
+        long id = reminders().get(0).get("id").asLong();
+
+        MockHttpSession other = registerAndLogin("other@example.com");
+        mockMvc.perform(delete("/api/reminders/" + id).session(other))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/reminders/" + id).session(session))
+                .andExpect(status().isNoContent());
+        assertThat(reminders()).isEmpty();
+    }
+}
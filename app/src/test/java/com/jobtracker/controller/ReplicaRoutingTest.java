@@ -0,0 +1,120 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Two in-memory H2 databases stand in for primary and replica; "replication" is an explicit
+ * copy of the primary, so anything the replica serves before that copy is visibly stale.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY_URL,
+        "jobtracker.datasource.replica.url=" + ReplicaRoutingTest.REPLICA_URL,
+        "jobtracker.datasource.replica.read-your-writes-window=300ms",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+    static final String REPLICA_URL = "jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("rw@example.com", "password123", "RW"))))
+                .andExpect(status().isOk());
+        // Logs in before the replica has the account: login reads from the primary.
+        session = (MockHttpSession) mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("rw@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession(false);
+        replicate();
+    }
+
+    private static void replicate() throws Exception {
+        Path script = Files.createTempFile("primary", ".sql");
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement fromPrimary = primary.createStatement();
+             Statement toReplica = replica.createStatement()) {
+            fromPrimary.execute("SCRIPT TO '" + script + "'");
+            toReplica.execute("DROP ALL OBJECTS");
+            toReplica.execute("RUNSCRIPT FROM '" + script + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    @Test
+    void readsFollowOwnWritesOnPrimary_thenMoveToReplica() throws Exception {
+        mockMvc.perform(post("/api/applications").session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "companyName", "Acme", "jobTitle", "Engineer", "status", "Applied", "dateApplied", "2024-01-01"))))
+                .andExpect(status().isOk());
+
+        // Within the read-your-writes window: served by the primary.
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        Thread.sleep(400);
+
+        // Window over: the read-only query goes to the replica, which has not caught up yet.
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        replicate();
+
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].companyName").value("Acme"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.sql.SqlBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "L2_CACHE=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clearDb() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private MockHttpSession login(String email) throws Exception {
+        return (MockHttpSession) mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getRequest().getSession(false);
+    }
+
+    private String application(String company) throws Exception {
+        return objectMapper.writeValueAsString(Map.of(
+                "companyName", company, "jobTitle", "Engineer", "status", "Applied", "dateApplied", "2024-01-01"));
+    }
+
+    @Test
+    void repeatLogin_isServedFromNaturalIdAndEntityCache() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("cache@example.com", "password123", "C"))))
+                .andExpect(status().isOk());
+        login("cache@example.com");
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("cache@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(0));
+    }
+
+    @Test
+    void firstPage_isCachedUntilTheNextWrite() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("list@example.com", "password123", "L"))))
+                .andExpect(status().isOk());
+        MockHttpSession session = login("list@example.com");
+        String created = mockMvc.perform(post("/api/applications").session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content(application("Acme")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "1"));
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(0))
+                .andExpect(jsonPath("$.items[0].companyName").value("Acme"));
+
+        mockMvc.perform(put("/api/applications/" + id).session(session)
+                        .contentType(MediaType.APPLICATION_JSON).content(application("Globex")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/applications").session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "1"))
+                .andExpect(jsonPath("$.items[0].companyName").value("Globex"));
+    }
+
+    @Test
+    void regions_belongToThisContext_notToTheJvmWideCacheManager() {
+        CacheManager own = (CacheManager) entityManagerFactory.getProperties().get(ConfigSettings.CACHE_MANAGER);
+        CacheManager shared = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(own.getURI(), own.getClassLoader());
+
+        assertThat(own).isNotSameAs(shared);
+        assertThat(own.getCacheNames()).contains("users", "users-by-email", "applications");
+    }
+}
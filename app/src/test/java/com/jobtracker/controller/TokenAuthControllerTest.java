@@ -0,0 +1,124 @@
+package com.jobtracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.dto.LoginRequest;
+import com.jobtracker.dto.RegisterRequest;
+import com.jobtracker.repository.RevokedTokenRepository;
+import com.jobtracker.repository.UserRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// A database of its own: recreating the shared schema would restart the ids under the users
+// the session-mode context still has cached.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tokens;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "jobtracker.auth.mode=token",
+        "jobtracker.auth.token.active-key=k1",
+        "jobtracker.auth.token.keys.k1=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenAuthControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RevokedTokenRepository revokedTokenRepository;
+
+    @BeforeEach
+    void clearDb() {
+        revokedTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Cookie login() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RegisterRequest("tok@example.com", "password123", "Tok"))))
+                .andExpect(status().isOk());
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("tok@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Set-Cookie", containsString("HttpOnly")))
+                .andReturn();
+
+        assertThat(result.getRequest().getSession(false)).isNull();
+        return result.getResponse().getCookie("JT_AUTH");
+    }
+
+    @Test
+    void login_issuesCookie_thatAuthenticatesWithoutSession() throws Exception {
+        Cookie token = login();
+
+        mockMvc.perform(get("/api/auth/me").cookie(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("tok@example.com"))
+                .andExpect(jsonPath("$.userName").value("Tok"));
+        mockMvc.perform(get("/api/applications").cookie(token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void logout_revokesToken_andClearsCookie() throws Exception {
+        Cookie token = login();
+
+        mockMvc.perform(post("/api/auth/logout").cookie(token))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
+
+        assertThat(revokedTokenRepository.count()).isEqualTo(1);
+        mockMvc.perform(get("/api/auth/me").cookie(token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void deleteAccount_rejectsTokensIssuedBeforeIt() throws Exception {
+        Cookie laptop = login();
+        Cookie phone = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("tok@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie("JT_AUTH");
+
+        mockMvc.perform(delete("/api/account").cookie(laptop))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
+
+        mockMvc.perform(get("/api/applications").cookie(phone))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string("Set-Cookie", containsString("Max-Age=0")));
+    }
+
+    @Test
+    void tamperedCookie_isAnonymous() throws Exception {
+        Cookie token = login();
+        Cookie tampered = new Cookie("JT_AUTH", token.getValue().substring(0, token.getValue().length() - 2) + "xx");
+
+        mockMvc.perform(get("/api/applications").cookie(tampered))
+                .andExpect(status().isForbidden());
+    }
+}
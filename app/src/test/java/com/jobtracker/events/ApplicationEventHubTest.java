@@ -0,0 +1,153 @@
+package com.jobtracker.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jobtracker.config.EventStreamProperties;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.CurrentUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class ApplicationEventHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApplicationEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new ApplicationEventHub(new CurrentUser(mock(UserRepository.class)), new ObjectMapper().findAndRegisterModules()
+                        .setFilterProvider(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())),
+                new EventStreamProperties(4, Duration.ofMinutes(1), 10, Duration.ofMillis(200)), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void publish_dropsAStalledStream_withoutBlockingThePublisherOrOtherStreams() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(new CountDownLatch(1));
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        hub.subscribe(1L, stalled);
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.sending.getCount() == 0);
+
+        // The stalled stream's sender is stuck in its first write; publishing must neither wait
+        // for it nor let its queue grow past the buffer.
+        hub.subscribe(1L, healthy);
+        for (long id = 1; id <= 10; id++) {
+            hub.publish(ApplicationChangeEvent.created(1L, application(id)));
+            Thread.sleep(20);
+        }
+
+        assertThat(meterRegistry.counter("jobtracker.events.dropped").count()).isEqualTo(1.0);
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        stalled.release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.completed);
+        assertThat(stalled.frames).hasSize(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.frames.size() == 11);
+    }
+
+    @Test
+    void stalledStreams_ofOtherUsers_doNotHoldUpDelivery() {
+        List<RecordingEmitter> stalled = new ArrayList<>();
+        for (long user = 1; user <= 8; user++) {
+            RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(1));
+            hub.subscribe(user, emitter);
+            stalled.add(emitter);
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.stream().allMatch(e -> e.sending.getCount() == 0));
+
+        // Every stalled client is blocked in a socket write; another user's stream still gets its events.
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        hub.subscribe(9L, healthy);
+        for (long id = 1; id <= 3; id++) {
+            hub.publish(ApplicationChangeEvent.created(9L, application(id)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> healthy.frames.size() == 4);
+        stalled.forEach(emitter -> emitter.release.countDown());
+    }
+
+    @Test
+    void heartbeat_dropsAStreamStuckInOneWriteForLongerThanTheWriteTimeout() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(new CountDownLatch(1));
+        hub.subscribe(1L, stalled);
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.sending.getCount() == 0);
+
+        hub.heartbeat();
+        assertThat(hub.connectionCount()).isEqualTo(1);
+
+        Thread.sleep(300);
+        hub.heartbeat();
+        assertThat(hub.connectionCount()).isZero();
+        assertThat(meterRegistry.counter("jobtracker.events.dropped").count()).isEqualTo(1.0);
+        // The blocked write is interrupted rather than left waiting for the client.
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.interrupted);
+    }
+
+    @Test
+    void subscribe_refusesStreamsBeyondThePerUserLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(hub.subscribe(1L, new RecordingEmitter(null))).isPresent();
+        }
+
+        assertThat(hub.subscribe(1L, new RecordingEmitter(null))).isEmpty();
+        assertThat(hub.subscribe(2L, new RecordingEmitter(null))).isPresent();
+        assertThat(hub.connectionCount()).isEqualTo(11);
+    }
+
+    private static ApplicationResponse application(long id) {
+        return new ApplicationResponse(id, "Acme", "Engineer", null, LocalDate.of(2024, 1, 1), null, 0L);
+    }
+
+    /** Records frames instead of writing them; optionally blocks in the first send like a full socket. */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<Set<DataWithMediaType>> frames = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release;
+        volatile boolean completed;
+        volatile boolean interrupted;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    throw new IOException("Write interrupted", e);
+                }
+            }
+            frames.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
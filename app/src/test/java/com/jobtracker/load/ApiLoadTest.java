@@ -0,0 +1,524 @@
+package com.jobtracker.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jobtracker.JobTrackerApplication;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the REST API over real HTTP with session cookies: the application is booted on a
+ * random port against a private in-memory H2 database, {@code users × applications} rows are
+ * seeded through the API, and a weighted mix of requests is replayed either by a fixed number
+ * of closed-loop workers or at a fixed arrival rate. Per-endpoint throughput and
+ * p50/p95/p99/p999 latencies are logged and written to {@code target/load-test/api.json}.
+ *
+ * <p>With {@code api.threadModes=platform,virtual} the run is repeated on a fresh application
+ * and database per request-thread mode, and JFR virtual-thread pinning events are counted, to
+ * compare platform and virtual threads under the same load.
+ *
+ * <p>Run with {@code mvn test -Pload-test -Dtest=ApiLoadTest}. Settings (system properties):
+ * <ul>
+ *   <li>{@code api.users}, {@code api.applications} — seeded users and applications per user</li>
+ *   <li>{@code api.mode} — {@code closed} (fixed concurrency) or {@code open} (fixed arrival rate)</li>
+ *   <li>{@code api.concurrency} — closed-loop workers; {@code api.rate} — open-loop requests per second</li>
+ *   <li>{@code api.duration}, {@code api.warmup} — measured and warm-up seconds</li>
+ *   <li>{@code api.mix} — weights, e.g. {@code list=40,get=30,create=10,update=10,delete=5,me=4,login=1,register=0}</li>
+ *   <li>{@code api.threadModes} — {@code default} (as configured), {@code platform} and/or {@code virtual};
+ *       {@code api.platformThreads} caps Tomcat's pool in platform mode</li>
+ *   <li>{@code api.poolSize} — database pool size</li>
+ *   <li>{@code api.jdbcUrl}, {@code api.jdbcUser}, {@code api.jdbcPassword} — an empty, Flyway-managed
+ *       Postgres database instead of H2, to include real network waits</li>
+ * </ul>
+ * In open-loop mode latency is measured from the scheduled send time, so queueing behind a
+ * slow server is counted instead of hidden (coordinated omission).
+ */
+@Tag("load")
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("api.users", 20);
+    private static final int APPLICATIONS = Integer.getInteger("api.applications", 50);
+    private static final String MODE = System.getProperty("api.mode", "closed");
+    private static final int CONCURRENCY = Integer.getInteger("api.concurrency", 64);
+    private static final int RATE = Integer.getInteger("api.rate", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("api.duration", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("api.warmup", 10);
+    /** Open-loop only: arrivals beyond this many outstanding requests are counted as dropped. */
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("api.maxInFlight", 10_000);
+    private static final String MIX = System.getProperty("api.mix",
+            "list=40,get=30,create=10,update=10,delete=5,me=4,login=1,register=0");
+    private static final String THREAD_MODES = System.getProperty("api.threadModes", "default");
+    private static final int PLATFORM_THREADS = Integer.getInteger("api.platformThreads", 200);
+    private static final int POOL_SIZE = Integer.getInteger("api.poolSize", 10);
+    private static final String JDBC_URL = System.getProperty("api.jdbcUrl");
+    private static final String PASSWORD = "password123";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    enum Endpoint {
+        LIST("GET /api/applications"),
+        GET("GET /api/applications/{id}"),
+        CREATE("POST /api/applications"),
+        UPDATE("PUT /api/applications/{id}"),
+        DELETE("DELETE /api/applications/{id}"),
+        ME("GET /api/auth/me"),
+        LOGIN("POST /api/auth/login"),
+        REGISTER("POST /api/auth/register");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+
+    @Test
+    void driveApi() throws Exception {
+        Endpoint[] mix = parseMix(MIX);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", Map.of(
+                "users", USERS,
+                "applicationsPerUser", APPLICATIONS,
+                "mode", MODE,
+                "concurrency", CONCURRENCY,
+                "rate", RATE,
+                "durationSeconds", DURATION_SECONDS,
+                "warmupSeconds", WARMUP_SECONDS,
+                "mix", MIX,
+                "poolSize", POOL_SIZE,
+                "database", JDBC_URL == null ? "h2" : JDBC_URL));
+        Map<String, ModeResult> results = new LinkedHashMap<>();
+        for (String threadMode : THREAD_MODES.split(",")) {
+            results.put(threadMode.trim(), drive(threadMode.trim(), mix));
+        }
+        report.put("threadModes", results);
+
+        Path out = Path.of("target", "load-test", "api.json");
+        Files.createDirectories(out.getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), report);
+
+        results.forEach((threadMode, result) -> {
+            assertThat(result.errors()).as("failed requests with %s threads", threadMode).isZero();
+            assertThat(result.dropped()).as("dropped arrivals with %s threads", threadMode).isZero();
+        });
+    }
+
+    private ModeResult drive(String threadMode, Endpoint[] mix) throws Exception {
+        try (ConfigurableApplicationContext context = start(threadMode);
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            Api api = new Api(client, baseUrl, objectMapper);
+
+            // Unique per run, as an external database is shared by the thread modes and by reruns.
+            String run = threadMode + "-" + System.nanoTime();
+            List<Account> accounts = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                accounts.add(api.seed("user-" + u + "-" + run + "@load.test", APPLICATIONS));
+            }
+
+            run(api, accounts, mix, WARMUP_SECONDS, new Stats());
+
+            AtomicLong pinned = new AtomicLong();
+            Set<String> pinnedAt = new LinkedHashSet<>();
+            try (RecordingStream jfr = new RecordingStream()) {
+                jfr.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+                jfr.onEvent("jdk.VirtualThreadPinned", event -> {
+                    pinned.incrementAndGet();
+                    if (event.getStackTrace() != null) {
+                        synchronized (pinnedAt) {
+                            if (pinnedAt.size() < 10) {
+                                event.getStackTrace().getFrames().stream()
+                                        .filter(RecordedFrame::isJavaFrame)
+                                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                                        .filter(frame -> frame.startsWith("com.jobtracker") || frame.startsWith("org."))
+                                        .findFirst()
+                                        .ifPresent(pinnedAt::add);
+                            }
+                        }
+                    }
+                });
+                jfr.startAsync();
+
+                Stats stats = new Stats();
+                long elapsed = run(api, accounts, mix, DURATION_SECONDS, stats);
+                jfr.stop();
+
+                Map<String, EndpointResult> endpoints = stats.report(threadMode, elapsed);
+                log.info("{} threads, {} virtual-thread pinning events", threadMode, pinned.get());
+                return new ModeResult(endpoints, stats.errors(), stats.dropped.get(), pinned.get(), List.copyOf(pinnedAt));
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String threadMode) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework.security=WARN",
+                "logging.level.com.jobtracker.load=INFO"));
+        switch (threadMode) {
+            case "default" -> { }
+            case "platform" -> properties.addAll(List.of(
+                    "spring.threads.virtual.enabled=false",
+                    "server.tomcat.threads.max=" + PLATFORM_THREADS));
+            case "virtual" -> properties.add("spring.threads.virtual.enabled=true");
+            default -> throw new IllegalArgumentException("Unknown thread mode: " + threadMode);
+        }
+        if (JDBC_URL == null) {
+            properties.add("spring.datasource.url=jdbc:h2:mem:api-load-" + threadMode + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        } else {
+            properties.addAll(List.of(
+                    "spring.datasource.url=" + JDBC_URL,
+                    "spring.datasource.driver-class-name=org.postgresql.Driver",
+                    "spring.datasource.username=" + System.getProperty("api.jdbcUser", ""),
+                    "spring.datasource.password=" + System.getProperty("api.jdbcPassword", ""),
+                    "spring.jpa.hibernate.ddl-auto=validate",
+                    "spring.flyway.enabled=true",
+                    "jobtracker.search.mode=postgres"));
+        }
+        // Command-line arguments, so they win over application.properties.
+        return new SpringApplicationBuilder(JobTrackerApplication.class)
+                .profiles("test")
+                .run(properties.stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /** Runs the mix for {@code seconds} and returns the elapsed nanoseconds. */
+    private static long run(Api api, List<Account> accounts, Endpoint[] mix, int seconds, Stats stats)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicLong registrations = new AtomicLong();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            if ("open".equals(MODE)) {
+                long interval = TimeUnit.SECONDS.toNanos(1) / RATE;
+                Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+                for (long scheduled = start; scheduled < deadline; scheduled += interval) {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    if (!inFlight.tryAcquire()) {
+                        stats.dropped.incrementAndGet();
+                        continue;
+                    }
+                    long intended = scheduled;
+                    workers.submit(() -> {
+                        try {
+                            call(api, accounts, mix, registrations, stats, intended);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } else if ("closed".equals(MODE)) {
+                for (int w = 0; w < CONCURRENCY; w++) {
+                    workers.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            call(api, accounts, mix, registrations, stats, System.nanoTime());
+                        }
+                    });
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown api.mode: " + MODE);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void call(Api api, List<Account> accounts, Endpoint[] mix, AtomicLong registrations,
+                             Stats stats, long startedAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Endpoint endpoint = mix[random.nextInt(mix.length)];
+        Account account = accounts.get(random.nextInt(accounts.size()));
+        boolean ok = switch (endpoint) {
+            case LIST -> api.list(account);
+            case GET -> api.get(account, account.randomId());
+            case CREATE -> api.create(account);
+            case UPDATE -> api.update(account, account.randomId());
+            case DELETE -> api.delete(account);
+            case ME -> api.me(account);
+            case LOGIN -> api.login(account.email()) != null;
+            case REGISTER -> api.register("new-" + registrations.incrementAndGet() + "-" + System.nanoTime() + "@load.test");
+        };
+        stats.record(endpoint, System.nanoTime() - startedAt, ok);
+    }
+
+    private static Endpoint[] parseMix(String mix) {
+        List<Endpoint> weighted = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            Endpoint endpoint = Endpoint.valueOf(parts[0].trim().toUpperCase());
+            int weight = Integer.parseInt(parts[1].trim());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("api.mix has no positive weights: " + mix);
+        }
+        return weighted.toArray(Endpoint[]::new);
+    }
+
+    /** A seeded user with its session cookie, seeded ids and ids created during the run. */
+    private record Account(String email, String cookie, long[] seededIds, ConcurrentLinkedDeque<Long> createdIds) {
+
+        long randomId() {
+            return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+        }
+    }
+
+    private record Api(HttpClient client, String baseUrl, ObjectMapper objectMapper) {
+
+        Account seed(String email, int applications) throws Exception {
+            assertThat(register(email)).as("register %s", email).isTrue();
+            String cookie = login(email);
+            assertThat(cookie).as("login %s", email).isNotNull();
+
+            List<Long> ids = new ArrayList<>();
+            for (int offset = 0; offset < applications; offset += 500) {
+                List<Map<String, Object>> operations = new ArrayList<>();
+                for (int i = offset; i < Math.min(applications, offset + 500); i++) {
+                    operations.add(Map.of("op", "CREATE", "application", application("Company " + i)));
+                }
+                HttpResponse<String> batch = send(post("/api/applications/batch",
+                        objectMapper.writeValueAsString(Map.of("operations", operations))).header("Cookie", cookie));
+                assertThat(batch.statusCode()).isEqualTo(200);
+                objectMapper.readTree(batch.body()).get("results")
+                        .forEach(result -> ids.add(result.get("id").asLong()));
+            }
+            return new Account(email, cookie, ids.stream().mapToLong(Long::longValue).toArray(), new ConcurrentLinkedDeque<>());
+        }
+
+        boolean register(String email) {
+            return status(post("/api/auth/register", credentials(email, true))) == 200;
+        }
+
+        /** Returns the session cookie, or null if the login failed. */
+        String login(String email) {
+            try {
+                HttpResponse<String> response = send(post("/api/auth/login", credentials(email, false)));
+                if (response.statusCode() != 200) {
+                    return null;
+                }
+                return response.headers().firstValue("Set-Cookie").map(c -> c.split(";", 2)[0]).orElse(null);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        boolean me(Account account) {
+            return status(get("/api/auth/me", account)) == 200;
+        }
+
+        boolean list(Account account) {
+            return status(get("/api/applications", account)) == 200;
+        }
+
+        boolean get(Account account, long id) {
+            return status(get("/api/applications/" + id, account)) == 200;
+        }
+
+        boolean create(Account account) {
+            try {
+                HttpResponse<String> response = send(post("/api/applications", json(application("Created")))
+                        .header("Cookie", account.cookie()));
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                JsonNode body = objectMapper.readTree(response.body());
+                account.createdIds().add(body.get("id").asLong());
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        boolean update(Account account, long id) {
+            Map<String, Object> body = new LinkedHashMap<>(application("Updated"));
+            body.put("status", ThreadLocalRandom.current().nextBoolean() ? "Interview" : "Applied");
+            return status(request("/api/applications/" + id, account)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(json(body)))) == 200;
+        }
+
+        /** Deletes an application created during the run, so the seeded data set stays stable. */
+        boolean delete(Account account) {
+            Long id = account.createdIds().poll();
+            if (id == null) {
+                return create(account);
+            }
+            return status(request("/api/applications/" + id, account).DELETE()) == 204;
+        }
+
+        private Map<String, Object> application(String company) {
+            return Map.of(
+                    "companyName", company,
+                    "jobTitle", "Engineer",
+                    "status", "Applied",
+                    "dateApplied", "2024-01-01",
+                    "notes", "Load test");
+        }
+
+        private String credentials(String email, boolean withName) {
+            return withName
+                    ? json(Map.of("email", email, "password", PASSWORD, "userName", "Load"))
+                    : json(Map.of("email", email, "password", PASSWORD));
+        }
+
+        private String json(Object value) {
+            try {
+                return objectMapper.writeValueAsString(value);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private HttpRequest.Builder request(String path, Account account) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Cookie", account.cookie());
+        }
+
+        private HttpRequest.Builder get(String path, Account account) {
+            return request(path, account).GET();
+        }
+
+        private HttpRequest.Builder post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+
+        private int status(HttpRequest.Builder request) {
+            try {
+                return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+            return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    /** Lock-free per-endpoint latency recording; histograms are in microseconds. */
+    private static final class Stats {
+        private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, AtomicInteger> errors = new EnumMap<>(Endpoint.class);
+        private final AtomicLong dropped = new AtomicLong();
+
+        Stats() {
+            for (Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+                errors.put(endpoint, new AtomicInteger());
+            }
+        }
+
+        void record(Endpoint endpoint, long nanos, boolean ok) {
+            recorders.get(endpoint).recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+            if (!ok) {
+                errors.get(endpoint).incrementAndGet();
+            }
+        }
+
+        int errors() {
+            return errors.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+
+        /** Summarizes the recorded latencies and logs them as one table. */
+        Map<String, EndpointResult> report(String threadMode, long elapsedNanos) {
+            double seconds = elapsedNanos / 1e9;
+            Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+            Map<String, EndpointResult> results = new LinkedHashMap<>();
+            StringBuilder table = new StringBuilder(String.format("%-30s %8s %9s %9s %9s %9s %9s %9s %6s",
+                    "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "errors"));
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                total.add(histogram);
+                results.put(endpoint.label, summarize(endpoint.label, histogram, seconds, errors.get(endpoint).get(), table));
+            }
+            results.put("all", summarize("all", total, seconds, errors(), table));
+            log.info("{} threads:\n{}", threadMode, table);
+            return results;
+        }
+
+        private static EndpointResult summarize(String label, Histogram histogram, double seconds, int errors,
+                                                StringBuilder table) {
+            EndpointResult result = new EndpointResult(
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    millis(histogram, 50),
+                    millis(histogram, 95),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1e3,
+                    errors);
+            table.append(String.format("%n%-30s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %6d",
+                    label, result.count(), result.throughput(), result.p50Millis(), result.p95Millis(),
+                    result.p99Millis(), result.p999Millis(), result.maxMillis(), result.errors()));
+            return result;
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1e3;
+        }
+    }
+
+    record ModeResult(Map<String, EndpointResult> endpoints, int errors, long dropped,
+                      long pinnedEvents, List<String> pinnedAt) {
+    }
+
+    record EndpointResult(long count, double throughput, double p50Millis, double p95Millis,
+                          double p99Millis, double p999Millis, double maxMillis, int errors) {
+    }
+}
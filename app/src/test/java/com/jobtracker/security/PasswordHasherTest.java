@@ -0,0 +1,82 @@
+package com.jobtracker.security;
+
+import com.jobtracker.config.PasswordHashingProperties;
+import com.jobtracker.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hashesOnPool_andRecordsLatency() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(4),
+                new PasswordHashingProperties(4, 1, 4, 1), meterRegistry);
+
+        String hash = hasher.encode("secret");
+
+        assertThat(hasher.matches("secret", hash)).isTrue();
+        assertThat(hasher.matches("other", hash)).isFalse();
+        assertThat(meterRegistry.get("jobtracker.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jobtracker.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void needsRehash_onlyForHashesBelowConfiguredCost() {
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5),
+                new PasswordHashingProperties(5, 1, 4, 1), meterRegistry);
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+    }
+
+    @Test
+    void rejectsWithRetryAfter_whenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blockingEncoder,
+                new PasswordHashingProperties(4, 1, 1, 3), meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> hasher.encode("running"));
+            started.await(5, TimeUnit.SECONDS);
+            callers.submit(() -> hasher.encode("queued"));
+            while (meterRegistry.get("jobtracker.password.queue.depth").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> hasher.encode("rejected"))
+                    .isInstanceOf(ServiceOverloadedException.class)
+                    .matches(ex -> ((ServiceOverloadedException) ex).getRetryAfterSeconds() == 3);
+            assertThat(meterRegistry.get("jobtracker.password.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            hasher.shutdown();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobtracker.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobtracker.config.TokenProperties;
+import com.jobtracker.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final String KEY_1 = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+    private static final String KEY_2 = Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes());
+    private static final Instant NOW = Instant.parse("2024-05-01T10:00:00Z");
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuthenticatedUser user = new AuthenticatedUser(42L, "ann@example.com", "Ann");
+
+    private TokenService service(Map<String, String> keys, String activeKey, Instant now, TokenRevocationList revocationList) {
+        TokenProperties properties = new TokenProperties(keys, activeKey, Duration.ofHours(1), "JT_AUTH", false);
+        return new TokenService(properties, objectMapper, revocationList, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private TokenService service(Map<String, String> keys, String activeKey, Instant now) {
+        return service(keys, activeKey, now, new TokenRevocationList(revokedTokenRepository));
+    }
+
+    @Test
+    void verify_returnsPrincipal_forTokenItIssued() {
+        TokenService tokens = service(Map.of("k1", KEY_1), "k1", NOW);
+
+        TokenClaims claims = tokens.verify(tokens.issue(user)).orElseThrow();
+
+        assertThat(claims.user()).isEqualTo(user);
+        assertThat(claims.expiresAt()).isEqualTo(NOW.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void verify_rejectsTamperedExpiredAndGarbageTokens() {
+        TokenService tokens = service(Map.of("k1", KEY_1), "k1", NOW);
+        String token = tokens.issue(user);
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"jti\":\"x\",\"sub\":\"1\",\"email\":\"evil@example.com\",\"exp\":9999999999}".getBytes());
+
+        assertThat(tokens.verify(parts[0] + "." + forgedPayload + "." + parts[2])).isEmpty();
+        assertThat(tokens.verify("not-a-token")).isEmpty();
+        assertThat(tokens.verify("a.b.c")).isEmpty();
+        assertThat(service(Map.of("k1", KEY_1), "k1", NOW.plus(Duration.ofHours(2))).verify(token)).isEmpty();
+    }
+
+    @Test
+    void rotation_keepsOldTokensValid_untilTheirKeyIsRemoved() {
+        String oldToken = service(Map.of("k1", KEY_1), "k1", NOW).issue(user);
+
+        TokenService rotated = service(Map.of("k1", KEY_1, "k2", KEY_2), "k2", NOW);
+        assertThat(rotated.verify(oldToken)).isPresent();
+        assertThat(rotated.issue(user).split("\\.")[0])
+                .isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"k2\"}".getBytes()));
+
+        TokenService retired = service(Map.of("k2", KEY_2), "k2", NOW);
+        assertThat(retired.verify(oldToken)).isEmpty();
+    }
+
+    @Test
+    void revoke_rejectsTokenOnNextVerify() {
+        TokenService tokens = service(Map.of("k1", KEY_1), "k1", NOW);
+        String token = tokens.issue(user);
+
+        tokens.revoke(tokens.verify(token).orElseThrow());
+
+        assertThat(tokens.verify(token)).isEmpty();
+        assertThat(tokens.verify(tokens.issue(user))).isPresent();
+    }
+
+    @Test
+    void rejectsShortKeys_andUnknownActiveKey() {
+        String shortKey = Base64.getEncoder().encodeToString("too-short".getBytes());
+
+        assertThatThrownBy(() -> service(Map.of("k1", shortKey), "k1", NOW))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service(Map.of("k1", KEY_1), "k2", NOW))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
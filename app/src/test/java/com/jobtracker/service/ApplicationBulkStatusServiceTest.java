@@ -0,0 +1,100 @@
+package com.jobtracker.service;
+
+import com.jobtracker.audit.AuditAction;
+import com.jobtracker.audit.AuditLog;
+import com.jobtracker.dto.ApplicationFilter;
+import com.jobtracker.dto.ApplicationIdRange;
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.User;
+import com.jobtracker.events.ApplicationChangeEvent;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthenticatedUser;
+import com.jobtracker.security.CurrentUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationBulkStatusServiceTest {
+
+    private static final ApplicationFilter STALE =
+            new ApplicationFilter(ApplicationStatus.Applied, null, LocalDate.of(2024, 3, 31), null);
+
+    @Mock private JobApplicationRepository jobRepo;
+    @Mock private UserRepository userRepo;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private AuditLog auditLog;
+
+    private ApplicationBulkStatusService service;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(AuthenticatedUser.from(user), null));
+
+        service = new ApplicationBulkStatusService(jobRepo, new CurrentUser(userRepo), transactionManager, eventPublisher, auditLog);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void changeStatus_splitsLargeSelectionsIntoIdWindowsOfAboutOneChunkEach() {
+        int count = ApplicationBulkStatusService.CHUNK_SIZE * 5 / 2;
+        // The user's rows are spread over four times as many ids as they number.
+        long maxId = 1000L + 4L * count - 1;
+        when(jobRepo.findStatusChangeRange(1L, STALE, ApplicationStatus.Rejected))
+                .thenReturn(new ApplicationIdRange(count, 1000L, maxId));
+        when(jobRepo.updateStatus(eq(1L), eq(STALE), eq(ApplicationStatus.Rejected), anyLong(), anyLong(), any()))
+                .thenReturn(ApplicationBulkStatusService.CHUNK_SIZE);
+
+        long updated = service.changeStatus(STALE, ApplicationStatus.Rejected);
+
+        long window = 4L * ApplicationBulkStatusService.CHUNK_SIZE;
+        verify(jobRepo).updateStatus(eq(1L), eq(STALE), eq(ApplicationStatus.Rejected), eq(1000L), eq(1000L + window - 1), any());
+        verify(jobRepo).updateStatus(eq(1L), eq(STALE), eq(ApplicationStatus.Rejected), eq(1000L + window), eq(1000L + 2 * window - 1), any());
+        verify(jobRepo).updateStatus(eq(1L), eq(STALE), eq(ApplicationStatus.Rejected), eq(1000L + 2 * window), eq(maxId), any());
+        assertThat(updated).isEqualTo(3L * ApplicationBulkStatusService.CHUNK_SIZE);
+        verify(eventPublisher).publishEvent(ApplicationChangeEvent.resync(1L));
+        verify(auditLog).record(AuditAction.APPLICATIONS_CHANGED, 1L, null,
+                "status -> Rejected: 5000 in ids 1000-" + (1000L + window - 1) + ", filter status=Applied to=2024-03-31");
+        verify(auditLog, times(3)).record(eq(AuditAction.APPLICATIONS_CHANGED), eq(1L), isNull(), any());
+    }
+
+    @Test
+    void changeStatus_issuesNoUpdate_whenNothingMatches() {
+        when(jobRepo.findStatusChangeRange(1L, STALE, ApplicationStatus.Rejected))
+                .thenReturn(new ApplicationIdRange(0, null, null));
+
+        assertThat(service.changeStatus(STALE, ApplicationStatus.Rejected)).isZero();
+
+        verify(jobRepo, never()).updateStatus(any(), any(), any(), anyLong(), anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.jobtracker.service;
+
+import com.jobtracker.config.ChangeFeedProperties;
+import com.jobtracker.dto.ApplicationChange;
+import com.jobtracker.dto.ApplicationChanges;
+import com.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.dto.ChangeCursor;
+import com.jobtracker.entity.ApplicationTombstone;
+import com.jobtracker.entity.User;
+import com.jobtracker.repository.ApplicationTombstoneRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthenticatedUser;
+import com.jobtracker.security.CurrentUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationChangeServiceTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private JobApplicationRepository jobRepo;
+    @Mock private ApplicationTombstoneRepository tombstoneRepo;
+    @Mock private UserRepository userRepo;
+
+    private ApplicationChangeService service;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(AuthenticatedUser.from(user), null));
+
+        service = new ApplicationChangeService(jobRepo, tombstoneRepo, new CurrentUser(userRepo),
+                new ChangeFeedProperties(Duration.ZERO, 3, Duration.ofDays(30)));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getChanges_mergesLiveRowsAndTombstonesInFeedOrder_andContinuesAfterTheLastOneReturned() {
+        when(jobRepo.findChanges(eq(1L), any(), anyLong(), any(), any())).thenReturn(List.of(
+                change(10L, T0.plusSeconds(1)), change(12L, T0.plusSeconds(3)), change(13L, T0.plusSeconds(4))));
+        when(tombstoneRepo.findChanges(eq(1L), any(), anyLong(), any(), any())).thenReturn(List.of(
+                new ApplicationTombstone(11L, 1L, T0.plusSeconds(2))));
+
+        ApplicationChanges changes = service.getChanges(null);
+
+        assertThat(changes.changed()).extracting(ApplicationResponse::id).containsExactly(10L, 12L);
+        assertThat(changes.deleted()).containsExactly(11L);
+        assertThat(changes.hasMore()).isTrue();
+        ChangeCursor next = ChangeCursor.decode(changes.cursor());
+        assertThat(next.changedAt()).isEqualTo(T0.plusSeconds(3));
+        assertThat(next.id()).isEqualTo(12L);
+    }
+
+    @Test
+    void getChanges_returns410_whenCursorPredatesTombstoneRetention() {
+        Instant old = Instant.now().minus(Duration.ofDays(31));
+        String since = ChangeCursor.until(old).encode();
+
+        assertThatThrownBy(() -> service.getChanges(since))
+                .isInstanceOf(ResponseStatusException.class)
+                .matches(ex -> ((ResponseStatusException) ex).getStatusCode().value() == 410);
+        verify(jobRepo, never()).findChanges(any(), any(), anyLong(), any(), any());
+    }
+
+    private static ApplicationChange change(Long id, Instant updatedAt) {
+        return new ApplicationChange(id, "Acme", "Engineer", null, LocalDate.of(2024, 1, 1), null, 0L, updatedAt);
+    }
+}
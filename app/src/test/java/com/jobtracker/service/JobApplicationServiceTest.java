@@ -5,17 +5,22 @@ import com.jobtracker.entity.User;
 import com.jobtracker.exception.ResourceNotFoundException;
 import com.jobtracker.repository.JobApplicationRepository;
 import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthenticatedUser;
+import com.jobtracker.security.CurrentUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,8 +28,9 @@ class JobApplicationServiceTest {
 
     @Mock private JobApplicationRepository jobRepo;
     @Mock private UserRepository userRepo;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
-    @InjectMocks private JobApplicationService service;
+    private JobApplicationService service;
 
     private User currentUser;
 
@@ -36,32 +42,74 @@ class JobApplicationServiceTest {
 
         // Set fake authentication for current user
         SecurityContextHolder.getContext().setAuthentication(
-            new TestingAuthenticationToken(currentUser.getEmail(), null)
+            new TestingAuthenticationToken(AuthenticatedUser.from(currentUser), null)
         );
+
+        service = new JobApplicationService(jobRepo, userRepo, new CurrentUser(userRepo), eventPublisher);
     }
 
     @Test
     void create_setsDateAndUser_whenSaving() {
-        when(userRepo.findByEmail(currentUser.getEmail())).thenReturn(Optional.of(currentUser));
+        when(userRepo.getReferenceById(currentUser.getId())).thenReturn(currentUser);
         when(jobRepo.save(any(JobApplication.class))).thenAnswer(inv -> inv.getArgument(0));
 
         JobApplication app = new JobApplication();
         app.setCompanyName("Google");
         app.setJobTitle("Engineer");
 
-       
-        JobApplication saved = service.create(app);
+        service.create(app);
 
-        assertThat(saved.getUser()).isEqualTo(currentUser);
-        assertThat(saved.getDateApplied()).isNotNull();
+        assertThat(app.getUser()).isEqualTo(currentUser);
+        assertThat(app.getDateApplied()).isNotNull();
         verify(jobRepo).save(any(JobApplication.class));
+        verify(userRepo, never()).findByEmail(any());
+    }
+
+    @Test
+    void create_fallsBackToEmailLookup_forLegacyStringPrincipal() {
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken(currentUser.getEmail(), null)
+        );
+        when(userRepo.findByEmail(currentUser.getEmail())).thenReturn(Optional.of(currentUser));
+        when(userRepo.getReferenceById(currentUser.getId())).thenReturn(currentUser);
+        when(jobRepo.save(any(JobApplication.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        JobApplication app = new JobApplication();
+        app.setCompanyName("Google");
+        app.setJobTitle("Engineer");
+
+        service.create(app);
+
+        assertThat(app.getUser()).isEqualTo(currentUser);
     }
 
     @Test
     void getById_throws_whenNotFound() {
-        when(jobRepo.findById(99L)).thenReturn(Optional.empty());
+        when(jobRepo.findResponseByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
+        when(jobRepo.existsById(99L)).thenReturn(false);
         assertThatThrownBy(() -> service.getById(99L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("99");
     }
+
+    @Test
+    void getById_throwsSecurityException_whenOwnedBySomeoneElse() {
+        when(jobRepo.findResponseByIdAndUserId(7L, 1L)).thenReturn(Optional.empty());
+        when(jobRepo.existsById(7L)).thenReturn(true);
+        assertThatThrownBy(() -> service.getById(7L))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void delete_runsOwnerScopedStatements_withoutLoadingEntity() {
+        when(jobRepo.deleteOwned(5L, 1L, null)).thenReturn(1);
+
+        service.delete(5L);
+
+        InOrder inOrder = inOrder(jobRepo);
+        inOrder.verify(jobRepo).insertTombstone(eq(5L), eq(1L), isNull(), any());
+        inOrder.verify(jobRepo).deleteOwned(5L, 1L, null);
+        verify(jobRepo, never()).findById(any());
+        verify(jobRepo, never()).existsById(any());
+    }
 }
@@ -0,0 +1,90 @@
+package com.jobtracker.service;
+
+import com.jobtracker.entity.ApplicationStatus;
+import com.jobtracker.entity.JobApplication;
+import com.jobtracker.entity.User;
+import com.jobtracker.repository.ApplicationTombstoneRepository;
+import com.jobtracker.repository.JobApplicationRepository;
+import com.jobtracker.repository.UserRepository;
+import com.jobtracker.security.AuthenticatedUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The unversioned overloads through the Spring proxy, called outside any transaction: their
+ * modifying queries need the transaction that a self-call to the versioned overloads would
+ * not start.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobApplicationServiceTransactionTest {
+
+    @Autowired
+    JobApplicationService service;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    ApplicationTombstoneRepository tombstoneRepository;
+
+    @BeforeEach
+    void signIn() {
+        jobApplicationRepository.deleteAll();
+        userRepository.deleteAll();
+        User user = userService.register("tx@example.com", "password123", "Tx");
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(AuthenticatedUser.from(user), null, List.of()));
+    }
+
+    @AfterEach
+    void signOut() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void update_withoutVersion_runsInATransaction() {
+        Long id = service.create(application()).id();
+        JobApplication changes = new JobApplication();
+        changes.setStatus(ApplicationStatus.Interview);
+
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+        assertThat(service.update(id, changes).status()).isEqualTo(ApplicationStatus.Interview);
+    }
+
+    @Test
+    void delete_withoutVersion_removesTheApplicationAndLeavesATombstone() {
+        Long id = service.create(application()).id();
+
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+        service.delete(id);
+
+        assertThat(jobApplicationRepository.existsById(id)).isFalse();
+        assertThat(tombstoneRepository.existsById(id)).isTrue();
+    }
+
+    private static JobApplication application() {
+        JobApplication application = new JobApplication();
+        application.setCompanyName("Acme");
+        application.setJobTitle("Engineer");
+        application.setStatus(ApplicationStatus.Applied);
+        return application;
+    }
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.jobtracker.security.DeletedAccounts;
+import com.jobtracker.security.PasswordHasher;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Optional;
+
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -21,7 +24,10 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private DeletedAccounts deletedAccounts;
 
     @InjectMocks
     private UserService userService;
@@ -29,7 +35,7 @@ class UserServiceTest {
     @Test
     void register_createsUser_whenEmailIsNew() {
         when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
-        when(passwordEncoder.encode("secret")).thenReturn("hashed123");
+        when(passwordHasher.encode("secret")).thenReturn("hashed123");
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
         User user = userService.register("new@example.com", "secret", "Alice");
@@ -55,4 +61,45 @@ class UserServiceTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void authenticate_rehashesWithConfiguredCost_whenStoredHashIsWeaker() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("old@example.com");
+        user.setPasswordHash("weak-hash");
+        when(userRepository.findByEmail("old@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("secret", "weak-hash")).thenReturn(true);
+        when(passwordHasher.needsRehash("weak-hash")).thenReturn(true);
+        when(passwordHasher.encode("secret")).thenReturn("strong-hash");
+
+        User authenticated = userService.authenticate(" Old@Example.com ", "secret");
+
+        assertThat(authenticated.getPasswordHash()).isEqualTo("strong-hash");
+        verify(userRepository).updatePasswordHash(7L, "strong-hash");
+    }
+
+    @Test
+    void authenticate_returnsNull_andKeepsHash_whenPasswordIsWrong() {
+        User user = new User();
+        user.setPasswordHash("weak-hash");
+        when(userRepository.findByEmail("old@example.com")).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("wrong", "weak-hash")).thenReturn(false);
+
+        assertThat(userService.authenticate("old@example.com", "wrong")).isNull();
+        verify(passwordHasher, never()).encode(any());
+        verify(userRepository, never()).updatePasswordHash(any(), any());
+    }
+
+    @Test
+    void authenticate_stillHashes_whenEmailIsUnknown() {
+        when(userRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+        when(passwordHasher.encode(any())).thenReturn("dummy-hash");
+
+        assertThat(userService.authenticate("nobody@example.com", "secret")).isNull();
+        assertThat(userService.authenticate("nobody@example.com", "other")).isNull();
+
+        verify(passwordHasher).matches("secret", "dummy-hash");
+        verify(passwordHasher).matches("other", "dummy-hash");
+        verify(passwordHasher, times(1)).encode(any());
+    }
 }
@@ -0,0 +1,31 @@
+package com.jobtracker.sql;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * MockMvc matcher that fails when a request runs more SQL statements than it is allowed,
+ * e.g. {@code .andExpect(SqlBudget.atMost(3))}. Reads the {@code X-SQL-Statements} header,
+ * which the test profile switches on.
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            MockHttpServletRequest request = result.getRequest();
+            String header = result.getResponse().getHeader(SqlStatisticsFilter.STATEMENTS_HEADER);
+            if (header == null) {
+                throw new AssertionError("No " + SqlStatisticsFilter.STATEMENTS_HEADER
+                        + " header; is jobtracker.sql-stats.response-headers enabled?");
+            }
+            int actual = Integer.parseInt(header);
+            if (actual > statements) {
+                throw new AssertionError("%s %s ran %d SQL statements, budget is %d"
+                        .formatted(request.getMethod(), request.getRequestURI(), actual, statements));
+            }
+        };
+    }
+}
@@ -1,8 +1,8 @@
 export async function apiFetch(url, options = {}) {
   const finalOptions = {
     credentials: 'include',
-    headers: { 'Content-Type': 'application/json', ...(options.headers || {}) },
-    ...options
+    ...options,
+    headers: { 'Content-Type': 'application/json', ...(options.headers || {}) }
   }
 
   try {